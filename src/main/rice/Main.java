@@ -106,8 +106,17 @@ public class Main {
         List<APyNode<?>> nodes = cFile.getNodes();
         int numRand = cFile.getNumRand();
 
-        //generate the base test set using the BaseSetGenerator
-        BaseSetGenerator testGen = new BaseSetGenerator(nodes, numRand);
+        //report the seed, which is chosen at random unless the config file gives one, so
+        //that the run can be replayed by adding it to the config file
+        System.out.println("Generating tests with \"seed\": " + cFile.getSeed());
+
+        //generate the base test set using the BaseSetGenerator, seeded so that the
+        //random tests can be reproduced (and using a covering array for the exhaustive
+        //tests, if the config file asks for one); the test cases are built on every
+        //core, which doesn't change the base set
+        BaseSetGenerator testGen = new BaseSetGenerator(nodes, numRand, cFile.getSeed(),
+            cFile.getStrength());
+        testGen.setParallelism(Runtime.getRuntime().availableProcessors());
         List<TestCase> baseSet = testGen.genBaseSet();
 
         //Create a tester to run our tests and find the concise set
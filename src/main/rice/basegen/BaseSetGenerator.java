@@ -1,13 +1,18 @@
 package main.rice.basegen;
 
 import main.rice.node.APyNode;
+import main.rice.node.IndexSampler;
 import main.rice.obj.APyObj;
 import main.rice.test.TestCase;
+import main.rice.test.ValueTable;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 
 /**
  * A class that is used to generate a "base" set of test cases, comprised of the union
@@ -16,6 +21,18 @@ import java.util.Set;
  */
 public class BaseSetGenerator {
 
+    /**
+     * The number of test cases that are built at a time, before being added to the base
+     * set in order.
+     */
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    /**
+     * The number of per-node random draws in a row that may yield duplicates before
+     * random generation switches to drawing distinct indices.
+     */
+    private static final int STALL_LIMIT = 1000;
+
     /**
      * The nodes that will be used to perform generation.
      */
@@ -27,20 +44,113 @@ public class BaseSetGenerator {
     private int numRand;
 
     /**
-     * The base test set, stored as a field to be accessible to genRandTests().
+     * The base test set, stored as a field to be accessible to genRandTests();
+     * duplicates are detected by fingerprint.
+     */
+    private FingerprintSet baseSet;
+
+    /**
+     * The seed from which all of the randomness used during generation is derived.
+     */
+    private final long seed;
+
+    /**
+     * The RNG used to select random test cases.
+     */
+    private SplittableRandom rand;
+
+    /**
+     * The strength (t) of the covering array used for the semi-exhaustive test set, or 0
+     * if the semi-exhaustive test set contains every combination of arguments.
      */
-    private Set<TestCase> baseSet;
+    private final int strength;
 
     /**
-     * Constructor for a BaseSetGenerator, which initializes the fields.
+     * The number of threads that may be used to build test cases.
+     */
+    private int parallelism = 1;
+
+    /**
+     * True if random test cases are drawn uniformly from the distinct combinations of
+     * arguments; false if each argument is drawn using its node.
+     */
+    private boolean uniformSampling;
+
+    /**
+     * Constructor for a BaseSetGenerator, which initializes the fields; the random test
+     * cases are derived from a randomly-selected seed.
      *
      * @param nodes   the nodes that will be used to perform generation
      * @param numRand the number of random cases to generate
      */
     public BaseSetGenerator(List<APyNode<?>> nodes, int numRand) {
+        this(nodes, numRand, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor for a BaseSetGenerator, which initializes the fields. Every node is
+     * given its own RNG stream, split from a single root RNG created from the seed, so
+     * that generating with the same seed always yields the same base test set.
+     *
+     * @param nodes   the nodes that will be used to perform generation
+     * @param numRand the number of random cases to generate
+     * @param seed    the seed from which all randomness is derived
+     */
+    public BaseSetGenerator(List<APyNode<?>> nodes, int numRand, long seed) {
+        this(nodes, numRand, seed, 0);
+    }
+
+    /**
+     * Constructor for a BaseSetGenerator, which initializes the fields. If the strength
+     * is positive, the semi-exhaustive test set is a t-wise covering array over the
+     * exhaustive domains rather than every combination of them: for every t parameters,
+     * every combination of their arguments appears in some test case, which takes far
+     * fewer test cases than every combination of all of the arguments.
+     *
+     * @param nodes    the nodes that will be used to perform generation
+     * @param numRand  the number of random cases to generate
+     * @param seed     the seed from which all randomness is derived
+     * @param strength the strength (t) of the covering array, or 0 to generate every
+     *                 combination of arguments
+     * @throws IllegalArgumentException if the strength is negative
+     */
+    public BaseSetGenerator(List<APyNode<?>> nodes, int numRand, long seed,
+        int strength) {
+        if (strength < 0) {
+            throw new IllegalArgumentException("Invalid strength: " + strength);
+        }
         this.nodes = nodes;
         this.numRand = numRand;
-        this.baseSet = new HashSet<>();
+        this.baseSet = new FingerprintSet();
+        this.seed = seed;
+        this.strength = strength;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        this.rand = root.split();
+        for (APyNode<?> node : nodes) {
+            node.setRand(root.split());
+        }
+    }
+
+    /**
+     * @return the seed from which all randomness is derived
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Sets the number of threads that may be used to build test cases during
+     * genBaseSet(). The base test set (including its order) is the same as that of
+     * building the test cases on a single thread.
+     *
+     * @param parallelism the number of threads that may be used; must be at least 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
     }
 
     /**
@@ -49,40 +159,253 @@ public class BaseSetGenerator {
      * Each output test case encapsulates a list of arguments (APyObjs), where the i-th
      * argument is typified by the i-th element in nodes.
      *
+     * <p>If the parallelism is greater than 1, the test cases are built (and their
+     * fingerprints computed) in blocks, each of which is split into index ranges that
+     * are built on a ForkJoinPool; each block is then added to the base set in index
+     * order, so the output doesn't depend on the number of threads.
+     *
      * @return the base test set (as a List, so that we can use indices in the Tester)
      */
     public List<TestCase> genBaseSet() {
-        this.baseSet = this.genExTests();
-        this.genRandTests();
+        // The size of a covering array isn't known up front
+        int expectedSize = this.usesCoveringArray() ? this.numRand : this.checkBaseSize();
+        this.baseSet = new FingerprintSet(expectedSize);
+        if (this.parallelism == 1) {
+            this.forEachExTest(this.baseSet::add);
+            this.genRandTests();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+            try {
+                this.addExTests(pool);
+                this.genRandTests(pool);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
 
         // Convert to a list so that we can use indices in testing
-        return new ArrayList<>(this.baseSet);
+        return this.baseSet.toList();
+    }
+
+    /**
+     * @return the strength (t) of the covering array used for the semi-exhaustive test
+     * set, or 0 if it contains every combination of arguments
+     */
+    public int getStrength() {
+        return this.strength;
+    }
+
+    /**
+     * Computes the number of test cases in the full Cartesian product of the exhaustive
+     * domains (i.e. the size of the set returned by genExTests(), unless a covering
+     * array is used), without generating any of them.
+     *
+     * @return the number of combinations of arguments within the exhaustive domains
+     */
+    public BigInteger countExTests() {
+        BigInteger count = BigInteger.ONE;
+        for (APyNode<?> node : this.nodes) {
+            count = count.multiply(node.countExVals());
+        }
+        return count;
+    }
+
+    /**
+     * Computes the number of test cases in the base test set (i.e. the size of the list
+     * returned by genBaseSet(), unless a covering array is used), without generating any
+     * of them.
+     *
+     * @return the number of base test cases
+     */
+    public BigInteger countBaseSet() {
+        return this.countExTests().add(BigInteger.valueOf(this.numRand));
     }
 
     /**
      * Exbaustively generates a set of all valid test cases within the exhaustive
-     * domains stored within the nodes.
+     * domains stored within the nodes; if the strength is positive, generates a t-wise
+     * covering array over them instead.
      *
      * @return a set of valid test cases according to the given specifications
+     * @throws IllegalStateException if the base test set is too large to be stored
      */
     public Set<TestCase> genExTests() {
-        // For each parameter, generate the set of all possible arguments
-        List<Set<? extends APyObj>> possibleArgs = new ArrayList<>();
+        if (this.usesCoveringArray()) {
+            // The size of the covering array isn't known up front
+            Set<TestCase> tests = new HashSet<>();
+            this.forEachExTest(tests::add);
+            return tests;
+        }
+
+        Set<TestCase> tests = new HashSet<>(APyNode.capacityFor(this.checkBaseSize()));
+        this.forEachExTest(tests::add);
+        return tests;
+    }
+
+    /**
+     * Finds out up front how many tests will be generated, so that we can fail fast if
+     * there are more than a FingerprintSet can hold, and otherwise reserve room for
+     * them (including the random tests that are added later on).
+     *
+     * @return the number of test cases in the base test set
+     * @throws IllegalStateException if the base test set would contain more than
+     *                               FingerprintSet.MAX_SIZE test cases
+     */
+    private int checkBaseSize() {
+        BigInteger baseSize = this.countBaseSet();
+        if (baseSize.compareTo(BigInteger.valueOf(FingerprintSet.MAX_SIZE)) > 0) {
+            throw FingerprintSet.tooLarge(baseSize);
+        }
+        return baseSize.intValue();
+    }
+
+    /**
+     * Exhaustively generates every valid test case within the exhaustive domains stored
+     * within the nodes, passing each one to the consumer as soon as it is built, so that
+     * the combinations of arguments are never stored all at once. If the strength is
+     * positive, generates the test cases of a t-wise covering array instead.
+     *
+     * <p>The possible arguments for each parameter are stored once, in a ValueTable, and
+     * each test case is stored compactly as the code of its arguments within the table.
+     * The test cases are generated by counting through the codes, which visits every
+     * combination of arguments like an odometer, whose i-th digit is the index of the
+     * argument to the i-th parameter (so the last parameter varies fastest).
+     *
+     * @param consumer the function to which each test case is passed, in order
+     */
+    public void forEachExTest(Consumer<? super TestCase> consumer) {
+        List<List<APyObj>> possibleArgs = this.genPossibleArgs();
+        if (possibleArgs == null) {
+            return;
+        }
+        if (this.usesCoveringArray()) {
+            for (TestCase test : this.coveringTests(possibleArgs)) {
+                consumer.accept(test);
+            }
+            return;
+        }
+
+        ValueTable table = new ValueTable(possibleArgs);
+        for (long code = 0; code < table.size(); code++) {
+            consumer.accept(new TestCase(table, code));
+        }
+    }
+
+    /**
+     * Helper function for genBaseSet; adds the same test cases as forEachExTest() to
+     * the base set, in the same order, but builds them in parallel. Each block of test
+     * cases is split into index ranges that are built (along with their fingerprints)
+     * on the pool, and the block is then added to the base set in index order.
+     *
+     * @param pool the pool on which the test cases are built
+     */
+    private void addExTests(ForkJoinPool pool) {
+        List<List<APyObj>> possibleArgs = this.genPossibleArgs();
+        if (possibleArgs == null) {
+            return;
+        }
+        List<TestCase> exTests;
+        if (this.usesCoveringArray()) {
+            exTests = this.coveringTests(possibleArgs);
+        } else {
+            // The size of the base set was already checked, so every code fits in an int
+            ValueTable table = new ValueTable(possibleArgs);
+            exTests = new AbstractList<>() {
+                @Override
+                public TestCase get(int index) {
+                    return new TestCase(table, index);
+                }
+
+                @Override
+                public int size() {
+                    return (int) table.size();
+                }
+            };
+        }
+
+        for (int start = 0; start < exTests.size(); start += BLOCK_SIZE) {
+            int offset = start;
+            int blockSize = Math.min(BLOCK_SIZE, exTests.size() - start);
+            TestCase[] tests = new TestCase[blockSize];
+            long[] fingerprints = new long[blockSize];
+            pool.invoke(new RangeTask(0, blockSize, i -> {
+                tests[i] = exTests.get(offset + i);
+                fingerprints[i] = tests[i].fingerprint();
+            }));
+            for (int i = 0; i < blockSize; i++) {
+                this.baseSet.add(tests[i], fingerprints[i]);
+            }
+        }
+    }
+
+    /**
+     * For each parameter, generates all possible arguments; these are streamed from the
+     * node, which generates each one exactly once.
+     *
+     * @return a list of lists, where the i-th list contains all possible (distinct)
+     * arguments for the i-th parameter; null if some parameter has no possible
+     * arguments, in which case no combinations can be made
+     */
+    private List<List<APyObj>> genPossibleArgs() {
+        List<List<APyObj>> possibleArgs = new ArrayList<>();
         for (APyNode<?> node : this.nodes) {
-            Set<? extends APyObj> args = node.genExVals();
+            List<APyObj> args = new ArrayList<>();
+            node.iterExVals().forEachRemaining(args::add);
+            if (args.isEmpty()) {
+                return null;
+            }
             possibleArgs.add(args);
         }
+        return possibleArgs;
+    }
 
-        // Generate all possible combinations of arguments (selecting one valid argument
-        // for each parameter)
-        List<List<APyObj>> combos = generateArgCombos(possibleArgs, 0);
-        Set<TestCase> tests = new HashSet<>();
-
-        // Encapsulate the results within TestCase objects and return
-        for (List<APyObj> combo : combos) {
-            tests.add(new TestCase(combo));
+    /**
+     * Helper function for forEachExTest and addExTests; builds a t-wise covering array
+     * over the possible arguments for each parameter.
+     *
+     * @param possibleArgs a list of lists, where the i-th list contains all possible
+     *                     (distinct) arguments for the i-th parameter
+     * @return an unmodifiable view of the test cases of the covering array, each of
+     * which is built when it is requested (so the view may be used from any thread)
+     */
+    private List<TestCase> coveringTests(List<List<APyObj>> possibleArgs) {
+        int[] radices = new int[possibleArgs.size()];
+        for (int i = 0; i < radices.length; i++) {
+            radices[i] = possibleArgs.get(i).size();
         }
-        return tests;
+        List<int[]> rows = CoveringArray.build(radices, this.strength);
+
+        // Store the test cases compactly, unless there are too many combinations of
+        // arguments for them to be encoded
+        ValueTable table = ValueTable.fits(possibleArgs)
+            ? new ValueTable(possibleArgs) : null;
+        return new AbstractList<>() {
+            @Override
+            public TestCase get(int index) {
+                int[] row = rows.get(index);
+                if (table != null) {
+                    return new TestCase(table, table.encode(row));
+                }
+                APyObj[] combo = new APyObj[row.length];
+                for (int i = 0; i < row.length; i++) {
+                    combo[i] = possibleArgs.get(i).get(row[i]);
+                }
+                return new TestCase(Arrays.asList(combo));
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+        };
+    }
+
+    /**
+     * @return true if the semi-exhaustive test set is a covering array that is smaller
+     * than every combination of arguments; false if it contains every combination
+     */
+    private boolean usesCoveringArray() {
+        return this.strength > 0 && this.strength < this.nodes.size();
     }
 
     /**
@@ -91,30 +414,72 @@ public class BaseSetGenerator {
      * of arguments (APyObjs), where the i-th argument is typified by the i-th element in
      * nodes.
      *
+     * <p>By default, each argument is drawn using its node's genRandVal(), so the test
+     * cases follow the nodes' own distributions, and duplicates (including test cases
+     * that are already in the base set) are skipped. If per-node draws stop finding new
+     * test cases, or if uniform sampling was requested, every combination of arguments
+     * within the random domains is given an index instead, and distinct indices are
+     * drawn uniformly at random and then unranked into test cases, so that no test case
+     * is ever generated twice.
+     *
      * @return a list of valid test cases, according to the given specifications
+     * @throws IllegalStateException if there are fewer than numRand distinct test cases
+     *                               within the random domains that are not already in
+     *                               the base set
      */
     public Set<TestCase> genRandTests() {
-        // Get the goal size for the base test set
-        int goalSize = this.baseSet.size() + this.numRand;
-        Set<TestCase> randSet = new HashSet<>();
+        return this.genRandTests(null);
+    }
 
-        // Randomly generate one test at a time until we've generated enough. Need to
-        // continually check the size in case we randomly generate the same test twice
-        while (this.baseSet.size() < goalSize) {
+    /**
+     * Sets whether random test cases are drawn uniformly from the distinct combinations
+     * of arguments within the random domains, rather than by drawing each argument from
+     * its node's own distribution (the default).
+     *
+     * @param uniformSampling true to draw distinct combinations of arguments uniformly;
+     *                        false to draw each argument using its node
+     */
+    public void setUniformSampling(boolean uniformSampling) {
+        this.uniformSampling = uniformSampling;
+    }
 
-            // Randomly generate each argument
-            List<APyObj> args = new ArrayList<>();
-            for (APyNode<?> node : this.nodes) {
-                APyObj arg = node.genRandVal();
-                args.add(arg);
-            }
+    /**
+     * Helper function for genRandTests() and genBaseSet(). The random choices are made
+     * on this thread, in blocks of as many test cases as are left to find: for per-node
+     * draws, a stream is split off for each test case; for uniform sampling, an index is
+     * drawn for each test case. The block is then built in parallel, and its test cases
+     * are added to the base set in order, so the result doesn't depend on the number of
+     * threads.
+     *
+     * @param pool the pool on which the test cases are built, or null to build them on
+     *             this thread
+     * @return a list of valid test cases, according to the given specifications
+     * @throws IllegalStateException if there are fewer than numRand distinct test cases
+     *                               within the random domains that are not already in
+     *                               the base set
+     */
+    private Set<TestCase> genRandTests(ForkJoinPool pool) {
+        // Count the possible arguments for each parameter; there is one test case for
+        // each combination of them
+        List<BigInteger> numArgs = new ArrayList<>();
+        BigInteger numTests = BigInteger.ONE;
+        for (APyNode<?> node : this.nodes) {
+            BigInteger count = node.countRandVals();
+            numArgs.add(count);
+            numTests = numTests.multiply(count);
+        }
+        if (numTests.compareTo(BigInteger.valueOf(this.numRand)) < 0) {
+            throw new IllegalStateException("Cannot generate " + this.numRand
+                + " random test cases, since the random domains only contain "
+                + numTests + " distinct test cases");
+        }
 
-            // Wrap arguments in a TestCase object and add to the base set, making sure
-            // that it isn't a duplicate of an object in the exhaustive set
-            TestCase test = new TestCase(args);
-            if (this.baseSet.add(test)) {
-                randSet.add(test);
-            }
+        Set<TestCase> randSet = new HashSet<>(APyNode.capacityFor(this.numRand));
+        if (!this.uniformSampling) {
+            this.drawRandTests(pool, randSet);
+        }
+        if (randSet.size() < this.numRand) {
+            this.sampleRandTests(pool, randSet, numArgs, numTests);
         }
 
         // Note: randSet is not necessary for any reason other than to allow for better
@@ -125,45 +490,187 @@ public class BaseSetGenerator {
     }
 
     /**
-     * Helper function for generateTest; a recursive algorithm for generating all possible
-     * combinations of arguments across multiple parameters. Uses an additional input,
-     * index, to keep track of which arguments have already been combined.
+     * Helper function for genRandTests; draws each argument of each test case using its
+     * node, until enough new test cases have been found or STALL_LIMIT draws in a row
+     * have only yielded duplicates (in which case few new test cases may be left).
+     *
+     * @param pool    the pool on which the test cases are built, or null to build them
+     *                on this thread
+     * @param randSet the set to which the new test cases are added
+     */
+    private void drawRandTests(ForkJoinPool pool, Set<TestCase> randSet) {
+        int misses = 0;
+        while (randSet.size() < this.numRand && misses < STALL_LIMIT) {
+            // Split off every stream up front, in order, since splitting advances the RNG
+            int blockSize = Math.min(this.numRand - randSet.size(), BLOCK_SIZE);
+            SplittableRandom[] streams = new SplittableRandom[blockSize];
+            for (int i = 0; i < blockSize; i++) {
+                streams[i] = this.rand.split();
+            }
+            TestCase[] tests = buildTests(pool, blockSize, i -> {
+                APyObj[] args = new APyObj[this.nodes.size()];
+                for (int j = 0; j < args.length; j++) {
+                    args[j] = this.nodes.get(j).genRandVal(streams[i]);
+                }
+                return new TestCase(Arrays.asList(args));
+            });
+
+            // Add each test case to the base set, making sure that it isn't a duplicate
+            // of an object in the exhaustive set (or of an earlier random test case)
+            for (TestCase test : tests) {
+                if (this.baseSet.add(test)) {
+                    randSet.add(test);
+                    misses = 0;
+                } else {
+                    misses++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper function for genRandTests; draws distinct indices uniformly at random and
+     * unranks them into test cases, until enough new test cases have been found.
+     *
+     * @param pool     the pool on which the test cases are unranked, or null to unrank
+     *                 them on this thread
+     * @param randSet  the set to which the new test cases are added
+     * @param numArgs  the number of possible arguments for each parameter
+     * @param numTests the number of combinations of arguments
+     * @throws IllegalStateException if every index is drawn before enough new test cases
+     *                               have been found
+     */
+    private void sampleRandTests(ForkJoinPool pool, Set<TestCase> randSet,
+        List<BigInteger> numArgs, BigInteger numTests) {
+        IndexSampler sampler = new IndexSampler(numTests, this.rand);
+        while (randSet.size() < this.numRand) {
+            // Each index yields a distinct test case, so drawing more indices than there
+            // are test cases left to find would only change which ones are found
+            int blockSize = Math.min(this.numRand - randSet.size(), BLOCK_SIZE);
+            BigInteger[] indices = new BigInteger[blockSize];
+            int numDrawn = 0;
+            while (numDrawn < blockSize && sampler.hasNext()) {
+                indices[numDrawn++] = sampler.next();
+            }
+            if (numDrawn == 0) {
+                throw new IllegalStateException("Cannot generate " + this.numRand
+                    + " random test cases, since only " + randSet.size()
+                    + " of the test cases in the random domains are not already in the"
+                    + " base set");
+            }
+
+            TestCase[] tests = buildTests(pool, numDrawn,
+                i -> this.unrankRandTest(indices[i], numArgs));
+            for (TestCase test : tests) {
+                if (this.baseSet.add(test)) {
+                    randSet.add(test);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the given number of test cases, either on the pool or on this thread.
      *
-     * @param possibleArgs a list of sets, where the i-th set contains all possible
-     *                     arguments (as PyObjs) for the i-th parameter
-     * @param index        the next index within possibleArgs for which we need to
-     *                     generate all possible combinations
-     * @return all possible combinations of args, where the i-th element in each sublist
-     * within the returned list is an element of the i-th set in possibleArgs
+     * @param pool     the pool on which the test cases are built, or null to build them
+     *                 on this thread
+     * @param numTests the number of test cases to build
+     * @param build    the function that builds the test case with each index
+     * @return an array whose i-th element is the test case with index i
      */
-    private List<List<APyObj>> generateArgCombos(
-        List<Set<? extends APyObj>> possibleArgs, int index) {
+    private static TestCase[] buildTests(ForkJoinPool pool, int numTests,
+        IntFunction<TestCase> build) {
+        TestCase[] tests = new TestCase[numTests];
+        IntConsumer body = i -> tests[i] = build.apply(i);
+        if (pool == null) {
+            for (int i = 0; i < numTests; i++) {
+                body.accept(i);
+            }
+        } else {
+            pool.invoke(new RangeTask(0, numTests, body));
+        }
+        return tests;
+    }
 
-        // BASE CASE: index is greater than the last index in possibleArgs ->
-        // no args remain -> return one empty combination
-        if (index == possibleArgs.size()) {
-            List<List<APyObj>> combos = new ArrayList<>();
-            combos.add(new ArrayList<APyObj>());
-            return combos;
+    /**
+     * Helper function for genRandTests; unranks a test case within the random domains.
+     *
+     * @param index   the index of the test case, treated as a mixed-radix number whose
+     *                i-th digit is the index of the i-th argument
+     * @param numArgs the number of possible arguments for each parameter
+     * @return the test case with the given index
+     */
+    private TestCase unrankRandTest(BigInteger index, List<BigInteger> numArgs) {
+        APyObj[] args = new APyObj[this.nodes.size()];
+        for (int i = this.nodes.size() - 1; i >= 0; i--) {
+            BigInteger[] quotRem = index.divideAndRemainder(numArgs.get(i));
+            args[i] = this.nodes.get(i).unrankRand(quotRem[1]);
+            index = quotRem[0];
         }
+        return new TestCase(Arrays.asList(args));
+    }
+
+    /**
+     * A task that applies a function to every index in a range, by splitting the range
+     * in half until the pieces are small enough to be worth running on their own. Each
+     * index is processed exactly once, so as long as the function only writes to the
+     * slots for its own index, the result doesn't depend on how the work is scheduled.
+     */
+    private static final class RangeTask extends RecursiveAction {
 
-        // RECURSIVE CASE: index is within the bounds of possibleArgs ->
-        // Get all combinations of the later args
-        List<List<APyObj>> laterCombos = generateArgCombos(possibleArgs, index + 1);
+        /**
+         * The version of this class, for serialization (which is never used, but is
+         * supported by every ForkJoinTask).
+         */
+        private static final long serialVersionUID = 1L;
 
-        // Get all possible args for the current index
-        Set<? extends APyObj> currArgs = possibleArgs.get(index);
+        /**
+         * The largest number of indices that are processed without splitting the range.
+         */
+        private static final int THRESHOLD = 256;
+
+        /**
+         * The first index in the range.
+         */
+        private final int start;
+
+        /**
+         * The index after the last one in the range.
+         */
+        private final int end;
+
+        /**
+         * The function applied to every index.
+         */
+        private final IntConsumer body;
+
+        /**
+         * Constructor for a RangeTask.
+         *
+         * @param start the first index in the range
+         * @param end   the index after the last one in the range
+         * @param body  the function applied to every index
+         */
+        RangeTask(int start, int end, IntConsumer body) {
+            this.start = start;
+            this.end = end;
+            this.body = body;
+        }
 
-        // For every existing combination, add every possible arg in currArs
-        List<List<APyObj>> allCombos = new ArrayList<>();
-        for (APyObj arg : currArgs) {
-            for (List<APyObj> combo : laterCombos) {
-                // Make sure to clone so as to not mutate the original
-                List<APyObj> comboClone = new ArrayList<>(combo);
-                comboClone.add(0, arg);
-                allCombos.add(comboClone);
+        /**
+         * Processes every index in the range, splitting it in half if it is too large.
+         */
+        @Override
+        protected void compute() {
+            if (this.end - this.start <= THRESHOLD) {
+                for (int i = this.start; i < this.end; i++) {
+                    this.body.accept(i);
+                }
+                return;
             }
+            int mid = (this.start + this.end) >>> 1;
+            invokeAll(new RangeTask(this.start, mid, this.body),
+                new RangeTask(mid, this.end, this.body));
         }
-        return allCombos;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,296 @@
+package main.rice.basegen;
+
+import main.rice.node.Combinatorics;
+
+import java.util.*;
+
+/**
+ * Static helpers for building t-wise covering arrays: sets of rows, each of which picks
+ * one value (by index) for every parameter, such that for every choice of t parameters,
+ * every combination of their values appears in at least one row. Covering every
+ * combination of t values takes far fewer rows than covering every combination of all
+ * of the values (the full Cartesian product) once there are more than t parameters.
+ *
+ * <p>The arrays are built using the (greedy) IPOG strategy: the rows start out as every
+ * combination of values of the first t parameters, and then each later parameter is
+ * added in turn, first by choosing its value in each existing row so as to cover as many
+ * new combinations as possible ("horizontal growth"), and then by covering the remaining
+ * combinations using unassigned positions of existing rows or new rows ("vertical
+ * growth"). The construction is deterministic.
+ */
+public final class CoveringArray {
+
+    /**
+     * Marks a position of a row whose value has not been chosen yet.
+     */
+    private static final int DONT_CARE = -1;
+
+    /**
+     * Private constructor; this class only contains static helpers.
+     */
+    private CoveringArray() {
+    }
+
+    /**
+     * Builds a covering array of the given strength, in which the i-th parameter has
+     * radices[i] possible values. If there are no more than strength parameters, the
+     * result is simply the full Cartesian product.
+     *
+     * @param radices  the number of values of each parameter
+     * @param strength the number of parameters (t) whose combinations must be covered
+     * @return the rows of the covering array, each of which contains the index of the
+     * value of each parameter; empty if some parameter has no values
+     * @throws IllegalArgumentException if strength is not positive
+     * @throws IllegalStateException    if the array would be too large to be built
+     */
+    public static List<int[]> build(int[] radices, int strength) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Invalid strength: " + strength);
+        }
+        int numParams = radices.length;
+        for (int radix : radices) {
+            if (radix == 0) {
+                // No rows can be made without a value for every parameter
+                return new ArrayList<>();
+            }
+        }
+
+        // Start with every combination of values of the first t parameters
+        int initial = Math.min(strength, numParams);
+        int numInitial = 1;
+        for (int pos = 0; pos < initial; pos++) {
+            numInitial = checkSize((long) numInitial * radices[pos]);
+        }
+        List<int[]> rows = new ArrayList<>(numInitial);
+        int[] digits = new int[initial];
+        do {
+            int[] row = new int[numParams];
+            Arrays.fill(row, DONT_CARE);
+            System.arraycopy(digits, 0, row, 0, initial);
+            rows.add(row);
+        } while (nextMixedProduct(digits, radices));
+
+        // Add each later parameter in turn
+        for (int param = initial; param < numParams; param++) {
+            addParam(rows, radices, strength, param);
+        }
+
+        // Any value will do for the positions that were never needed
+        for (int[] row : rows) {
+            for (int pos = 0; pos < numParams; pos++) {
+                if (row[pos] == DONT_CARE) {
+                    row[pos] = 0;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Extends the rows, which cover every combination of t values of the parameters
+     * before param, so that they also cover every combination of t values involving
+     * param.
+     *
+     * @param rows     the rows of the covering array so far; modified in place
+     * @param radices  the number of values of each parameter
+     * @param strength the number of parameters whose combinations must be covered
+     * @param param    the parameter being added
+     */
+    private static void addParam(List<int[]> rows, int[] radices, int strength,
+        int param) {
+        // Each combination involving param is made up of a value for each of t - 1 of
+        // the earlier parameters plus a value for param; keep track of the uncovered
+        // ones for each choice of earlier parameters, indexed as a mixed-radix number
+        List<int[]> subsets = new ArrayList<>();
+        int[] subset = Combinatorics.firstCombination(strength - 1, param);
+        do {
+            subsets.add(subset.clone());
+        } while (Combinatorics.nextCombination(subset, param));
+        BitSet[] uncovered = new BitSet[subsets.size()];
+        for (int k = 0; k < subsets.size(); k++) {
+            int numTuples = radices[param];
+            for (int pos : subsets.get(k)) {
+                numTuples = checkSize((long) numTuples * radices[pos]);
+            }
+            uncovered[k] = new BitSet(numTuples);
+            uncovered[k].set(0, numTuples);
+        }
+
+        // Horizontal growth: give each existing row the value of param that covers the
+        // most uncovered combinations (the smallest one, in case of a tie); a row that
+        // can't cover any is left unassigned, so that vertical growth can use it
+        for (int[] row : rows) {
+            int best = DONT_CARE;
+            int bestGain = 0;
+            for (int value = 0; value < radices[param]; value++) {
+                int gain = 0;
+                for (int k = 0; k < subsets.size(); k++) {
+                    int index = tupleIndex(row, subsets.get(k), radices, param, value);
+                    if (index >= 0 && uncovered[k].get(index)) {
+                        gain++;
+                    }
+                }
+                if (gain > bestGain) {
+                    best = value;
+                    bestGain = gain;
+                }
+            }
+            if (best != DONT_CARE) {
+                row[param] = best;
+                markCovered(row, subsets, uncovered, radices, param);
+            }
+        }
+
+        // Vertical growth: cover each remaining combination by filling in the unassigned
+        // positions of the first row that agrees with it, or else by adding a new row
+        for (int k = 0; k < subsets.size(); k++) {
+            int[] positions = subsets.get(k);
+            for (int index = uncovered[k].nextSetBit(0); index >= 0;
+                index = uncovered[k].nextSetBit(index + 1)) {
+                int[] tuple = decodeTuple(index, positions, radices, param);
+                int[] target = null;
+                for (int[] row : rows) {
+                    if (agrees(row, positions, tuple, param)) {
+                        target = row;
+                        break;
+                    }
+                }
+                if (target == null) {
+                    target = new int[radices.length];
+                    Arrays.fill(target, DONT_CARE);
+                    rows.add(target);
+                    checkSize(rows.size());
+                }
+                for (int j = 0; j < positions.length; j++) {
+                    target[positions[j]] = tuple[j];
+                }
+                target[param] = tuple[positions.length];
+                markCovered(target, subsets, uncovered, radices, param);
+            }
+        }
+    }
+
+    /**
+     * Computes the index of the combination of values that a row would cover for a
+     * choice of earlier parameters, if it were given the input value of param.
+     *
+     * @param row       the row
+     * @param positions the earlier parameters, in ascending order
+     * @param radices   the number of values of each parameter
+     * @param param     the parameter being added
+     * @param value     the value of param
+     * @return the index of the combination, or -1 if the row doesn't have a value for
+     * one of the earlier parameters
+     */
+    private static int tupleIndex(int[] row, int[] positions, int[] radices, int param,
+        int value) {
+        int index = 0;
+        for (int pos : positions) {
+            if (row[pos] == DONT_CARE) {
+                return -1;
+            }
+            index = index * radices[pos] + row[pos];
+        }
+        return index * radices[param] + value;
+    }
+
+    /**
+     * Decodes the index of a combination of values; the inverse of tupleIndex().
+     *
+     * @param index     the index of the combination
+     * @param positions the earlier parameters, in ascending order
+     * @param radices   the number of values of each parameter
+     * @param param     the parameter being added
+     * @return the value of each earlier parameter, followed by the value of param
+     */
+    private static int[] decodeTuple(int index, int[] positions, int[] radices,
+        int param) {
+        int[] tuple = new int[positions.length + 1];
+        tuple[positions.length] = index % radices[param];
+        index /= radices[param];
+        for (int j = positions.length - 1; j >= 0; j--) {
+            tuple[j] = index % radices[positions[j]];
+            index /= radices[positions[j]];
+        }
+        return tuple;
+    }
+
+    /**
+     * Checks whether a row can be made to cover a combination of values, i.e. whether
+     * each of the involved positions is either unassigned or already has the right value.
+     *
+     * @param row       the row
+     * @param positions the earlier parameters, in ascending order
+     * @param tuple     the value of each earlier parameter, followed by that of param
+     * @param param     the parameter being added
+     * @return true if the row agrees with the combination; false otherwise
+     */
+    private static boolean agrees(int[] row, int[] positions, int[] tuple, int param) {
+        int value = tuple[positions.length];
+        if (row[param] != DONT_CARE && row[param] != value) {
+            return false;
+        }
+        for (int j = 0; j < positions.length; j++) {
+            if (row[positions[j]] != DONT_CARE && row[positions[j]] != tuple[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks every combination involving param that a row covers as covered.
+     *
+     * @param row       the row, which has a value for param
+     * @param subsets   every choice of earlier parameters
+     * @param uncovered the uncovered combinations for each choice of earlier parameters
+     * @param radices   the number of values of each parameter
+     * @param param     the parameter being added
+     */
+    private static void markCovered(int[] row, List<int[]> subsets, BitSet[] uncovered,
+        int[] radices, int param) {
+        for (int k = 0; k < subsets.size(); k++) {
+            int index = tupleIndex(row, subsets.get(k), radices, param, row[param]);
+            if (index >= 0) {
+                uncovered[k].clear(index);
+            }
+        }
+    }
+
+    /**
+     * Advances a sequence whose i-th element is drawn from {0, ..., radices[i] - 1} to
+     * the next one in lexicographic order, in place, like an odometer.
+     *
+     * @param digits  the sequence to be advanced
+     * @param radices the number of possible values of each element (of which only the
+     *                first digits.length are used)
+     * @return true if the sequence was advanced; false if it was already the last one
+     */
+    private static boolean nextMixedProduct(int[] digits, int[] radices) {
+        int pos = digits.length - 1;
+        while (pos >= 0 && digits[pos] == radices[pos] - 1) {
+            digits[pos] = 0;
+            pos--;
+        }
+        if (pos < 0) {
+            return false;
+        }
+        digits[pos]++;
+        return true;
+    }
+
+    /**
+     * Checks that a number of rows (or of combinations) can be stored.
+     *
+     * @param size the number of rows or combinations
+     * @return the size, as an int
+     * @throws IllegalStateException if the size is too large to be stored
+     */
+    private static int checkSize(long size) {
+        if (size >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("The covering array would require " + size
+                + " rows or combinations, which is too many to store");
+        }
+        return (int) size;
+    }
+}
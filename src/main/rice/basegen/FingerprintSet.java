@@ -0,0 +1,193 @@
+package main.rice.basegen;
+
+import main.rice.node.APyNode;
+import main.rice.test.TestCase;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * A set of test cases that detects duplicates by their 64-bit fingerprints, which are
+ * stored in a primitive open-addressing hash table (with linear probing) rather than in
+ * a HashSet of TestCases; the test cases themselves are only compared using equals()
+ * when their fingerprints collide. The test cases are kept in the order in which they
+ * were added.
+ */
+public class FingerprintSet {
+
+    /**
+     * The largest number of slots in the table.
+     */
+    private static final int MAX_SLOTS = 1 << 30;
+
+    /**
+     * The largest number of test cases in a set (since the table is kept at most half
+     * full).
+     */
+    public static final int MAX_SIZE = MAX_SLOTS / 2;
+
+    /**
+     * The test cases in the set, in the order in which they were added.
+     */
+    private final List<TestCase> tests;
+
+    /**
+     * The fingerprint of the test case in each slot of the table.
+     */
+    private long[] fingerprints;
+
+    /**
+     * The index (within tests) plus one of the test case in each slot of the table, or 0
+     * if the slot is empty.
+     */
+    private int[] slots;
+
+    /**
+     * Constructor for an empty FingerprintSet.
+     */
+    public FingerprintSet() {
+        this(0);
+    }
+
+    /**
+     * Constructor for an empty FingerprintSet, with room for the given number of test
+     * cases (up to APyNode.MAX_PRESIZE) before its table has to be resized; larger sets
+     * grow as test cases are added, so that no memory is reserved for test cases that
+     * may never be generated.
+     *
+     * @param expectedSize the number of test cases that are expected to be added
+     */
+    public FingerprintSet(int expectedSize) {
+        int presize = Math.min(expectedSize, APyNode.MAX_PRESIZE);
+        this.tests = new ArrayList<>(presize);
+
+        // Keep the table at most half full
+        int numSlots = 16;
+        while (numSlots / 2 < presize) {
+            numSlots *= 2;
+        }
+        this.fingerprints = new long[numSlots];
+        this.slots = new int[numSlots];
+    }
+
+    /**
+     * Adds a test case to the set, unless it already contains an equal test case.
+     *
+     * @param test the test case to be added
+     * @return true if the test case was added; false if it was a duplicate
+     * @throws IllegalStateException if the set already holds MAX_SIZE test cases
+     */
+    public boolean add(TestCase test) {
+        return this.add(test, test.fingerprint());
+    }
+
+    /**
+     * Adds a test case whose fingerprint has already been computed (e.g. on another
+     * thread) to the set, unless it already contains an equal test case.
+     *
+     * @param test        the test case to be added
+     * @param fingerprint the fingerprint of the test case
+     * @return true if the test case was added; false if it was a duplicate
+     * @throws IllegalStateException if the set already holds MAX_SIZE test cases
+     */
+    public boolean add(TestCase test, long fingerprint) {
+        int slot = this.findSlot(test, fingerprint);
+        if (this.slots[slot] != 0) {
+            return false;
+        }
+        if (this.tests.size() >= MAX_SIZE) {
+            throw tooLarge(BigInteger.valueOf(this.tests.size() + 1L));
+        }
+
+        this.tests.add(test);
+        this.fingerprints[slot] = fingerprint;
+        this.slots[slot] = this.tests.size();
+        if (this.tests.size() > this.slots.length / 2) {
+            this.grow();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the set contains a test case equal to the input.
+     *
+     * @param test the test case to look for
+     * @return true if the set contains a test case equal to test; false otherwise
+     */
+    public boolean contains(TestCase test) {
+        return this.slots[this.findSlot(test, test.fingerprint())] != 0;
+    }
+
+    /**
+     * @return the number of test cases in the set
+     */
+    public int size() {
+        return this.tests.size();
+    }
+
+    /**
+     * @return a (new) list of the test cases in the set, in the order in which they were
+     * added
+     */
+    public List<TestCase> toList() {
+        return new ArrayList<>(this.tests);
+    }
+
+    /**
+     * Finds the slot that holds a test case equal to the input, or else the empty slot
+     * in which it would be placed.
+     *
+     * @param test        the test case to look for
+     * @param fingerprint the fingerprint of the test case
+     * @return the index of the slot
+     */
+    private int findSlot(TestCase test, long fingerprint) {
+        int mask = this.slots.length - 1;
+        int slot = (int) fingerprint & mask;
+        while (this.slots[slot] != 0) {
+            // Only compare the test cases themselves if their fingerprints collide
+            if (this.fingerprints[slot] == fingerprint
+                && this.tests.get(this.slots[slot] - 1).equals(test)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Creates the exception thrown when a base test set would contain more than
+     * MAX_SIZE test cases.
+     *
+     * @param size the number of test cases in the base test set
+     * @return an IllegalStateException describing the size and the maximum
+     */
+    public static IllegalStateException tooLarge(BigInteger size) {
+        return new IllegalStateException("The base test set would contain " + size
+            + " test cases, which is more than the maximum of " + MAX_SIZE);
+    }
+
+    /**
+     * Doubles the number of slots in the table, moving every test case into its new
+     * slot (based on its stored fingerprint); since the set holds at most MAX_SIZE test
+     * cases, the table never grows past MAX_SLOTS.
+     */
+    private void grow() {
+        long[] oldFingerprints = this.fingerprints;
+        int[] oldSlots = this.slots;
+        this.fingerprints = new long[oldSlots.length * 2];
+        this.slots = new int[oldSlots.length * 2];
+
+        int mask = this.slots.length - 1;
+        for (int old = 0; old < oldSlots.length; old++) {
+            if (oldSlots[old] != 0) {
+                int slot = (int) oldFingerprints[old] & mask;
+                while (this.slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                this.fingerprints[slot] = oldFingerprints[old];
+                this.slots[slot] = oldSlots[old];
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package main.rice.concisegen;
 
+import main.rice.test.CoverageMatrix;
 import main.rice.test.TestCase;
 import main.rice.test.TestResults;
 
@@ -20,6 +21,12 @@ public class ConciseSetGenerator {
      * results --, finds an approximately minimal subset of B (M) such that all of the
      * incorrect implementations are caught by at least one element in M.
      *
+     * Each step selects the test case that catches the most heretofore-uncovered files
+     * (the lowest-indexed one, in case of a tie). Rather than recounting every test case
+     * at every step, the counts are kept in a max-heap and lazily brought up to date: a
+     * count can only shrink as files are covered, so a test case whose up-to-date count
+     * still places it on top of the heap is the correct choice.
+     *
      * @param results the results of running all tests in B on all files in S
      * @return M, a set of test cases that is an approximately minimal set covering
      */
@@ -28,44 +35,72 @@ public class ConciseSetGenerator {
         // Initialize the structure to return
         HashSet<TestCase> hittingSet = new HashSet<>();
 
-        // We'll be mutating both caseToFiles and wrongSet, so make copies
-        List<Set<Integer>> caseToFiles = new ArrayList<>();
-        for (Set<Integer> set : results.getCaseToFiles()) {
-            caseToFiles.add(new HashSet<>(set));
+        // Keep track of the files that have yet to be covered, and of the files in the
+        // wrong set that have yet to be covered
+        CoverageMatrix coverage = results.getCoverage();
+        int numWords = CoverageMatrix.numWords(coverage.getNumFiles());
+        long[] uncovered = new long[numWords];
+        for (int file = 0; file < coverage.getNumFiles(); file++) {
+            uncovered[file >>> 6] |= 1L << file;
+        }
+        long[] wrongBits = new long[numWords];
+        int numWrong = 0;
+        for (int file : results.getWrongSet()) {
+            wrongBits[file >>> 6] |= 1L << file;
+            numWrong++;
+        }
+
+        // Order the test cases by the number of files they catch (most first), and then
+        // by index (lowest first)
+        PriorityQueue<Long> heap = new PriorityQueue<>(Comparator.reverseOrder());
+        for (int caseIndex = 0; caseIndex < coverage.getNumCases(); caseIndex++) {
+            int filesCaught = coverage.countFiles(caseIndex);
+            if (filesCaught > 0) {
+                heap.add(heapKey(filesCaught, caseIndex));
+            }
         }
-        Set<Integer> wrongSet = new HashSet<>(results.getWrongSet());
 
         // Select tests until we've "covered" every program that was initially in the
         // wrong set
-        while (wrongSet.size() > 0) {
-            int maxFilesCaught = 0;
-            int caseOfMaxFiles = -1;
+        while (numWrong > 0 && !heap.isEmpty()) {
+            long key = heap.poll();
+            int caseIndex = Integer.MAX_VALUE - (int) key;
 
-            // Find the test case that covers the most heretofore-uncovered files
-            for (int caseIndex = 0; caseIndex < caseToFiles.size(); caseIndex++) {
-                Set<Integer> filesCaught = caseToFiles.get(caseIndex);
-                if (filesCaught.size() > maxFilesCaught) {
-                    maxFilesCaught = filesCaught.size();
-                    caseOfMaxFiles = caseIndex;
+            // If this test case's count was out of date, put it back with its up-to-date
+            // count (unless it no longer catches any uncovered files)
+            int filesCaught = coverage.countFiles(caseIndex, uncovered);
+            if (filesCaught != (int) (key >>> 32)) {
+                if (filesCaught > 0) {
+                    heap.add(heapKey(filesCaught, caseIndex));
                 }
+                continue;
             }
 
-            // Remove all covered files from the wrongSet
-            HashSet<Integer> coveredFiles =
-                new HashSet<>(caseToFiles.get(caseOfMaxFiles));
-            wrongSet.removeAll(coveredFiles);
-
-            // Update the caseToFiles mapping such that the set of files caught by each
-            // test no longer includes the newly-covered files
-            for (Set<Integer> filesCaught : caseToFiles) {
-                filesCaught.removeAll(coveredFiles);
+            // Remove all covered files from the uncovered files and the wrongSet
+            long[] coveredFiles = coverage.getFileBits(caseIndex);
+            for (int i = 0; i < numWords; i++) {
+                numWrong -= Long.bitCount(wrongBits[i] & coveredFiles[i]);
+                wrongBits[i] &= ~coveredFiles[i];
+                uncovered[i] &= ~coveredFiles[i];
             }
 
             // Add the selected test case to the hitting set
-            hittingSet.add(results.getTestCase(caseOfMaxFiles));
+            hittingSet.add(results.getTestCase(caseIndex));
         }
 
         // Return the hitting set
         return hittingSet;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds the key of a test case within the heap, such that keys are ordered first by
+     * the number of files caught and then by the reverse of the index.
+     *
+     * @param filesCaught the number of uncovered files caught by the test case
+     * @param caseIndex   the index of the test case
+     * @return the key of the test case
+     */
+    private static long heapKey(int filesCaught, int caseIndex) {
+        return ((long) filesCaught << 32) | (Integer.MAX_VALUE - caseIndex);
+    }
+}
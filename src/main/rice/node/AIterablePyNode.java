@@ -3,10 +3,9 @@ package main.rice.node;
 import main.rice.obj.AIterablePyObj;
 import main.rice.obj.APyObj;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * An abstract class whose instances represent generators for iterable Python objects
@@ -48,22 +47,206 @@ public abstract class AIterablePyNode<OuterType extends AIterablePyObj<InnerType
         return this.genPerms(innerVals);
     }
 
+    /**
+     * Lazily generates all valid OuterType objects within the exhaustive domain, in order
+     * of increasing length.
+     *
+     * @return an iterator over the OuterTypes comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<OuterType> iterExVals() {
+        return this.iterPerms(this.leftChild::iterExVals);
+    }
+
+    /**
+     * Lazily generates all permutations of the inner values of each valid length (as
+     * constrained by the exhaustive domain). Because the inner values are distinct, so
+     * are the permutations, so no duplicates need to be removed.
+     *
+     * @param innerVals a supplier of fresh iterators over the distinct values that can
+     *                  be contained within the iterable being generated
+     * @return an iterator over all permutations of innerVals of valid length
+     */
+    protected Iterator<OuterType> iterPerms(Supplier<Iterator<InnerType>> innerVals) {
+        return LazyIterators.flatMap(this.exDomainSizes().iterator(),
+            length -> LazyIterators.map(LazyIterators.product(innerVals, length),
+                this::genObj));
+    }
+
+    /**
+     * Counts the valid OuterType objects within either domain, based on the number of
+     * valid elements.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of OuterTypes comprising the domain
+     */
+    @Override
+    protected BigInteger countVals(boolean random) {
+        BigInteger numInner = this.countInner(random);
+        BigInteger count = BigInteger.ZERO;
+        for (int length : this.domainSizes(random)) {
+            count = count.add(this.countPerms(numInner, length));
+        }
+        return count;
+    }
+
+    /**
+     * Finds the index-th OuterType object within either domain, in the order in which
+     * iterExVals() generates them (for the exhaustive domain): first by length, and then
+     * by the indices of the elements.
+     *
+     * @param index  the index of the OuterType, in [0, countVals(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th OuterType within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    @Override
+    protected OuterType unrankVal(BigInteger index, boolean random) {
+        if (index.signum() >= 0) {
+            // Skip over the permutations of each length until we find the one containing
+            // the index
+            BigInteger numInner = this.countInner(random);
+            BigInteger offset = index;
+            for (int length : this.domainSizes(random)) {
+                BigInteger numPerms = this.countPerms(numInner, length);
+                if (offset.compareTo(numPerms) < 0) {
+                    List<InnerType> innerVals = new ArrayList<>();
+                    for (BigInteger innerIndex : this.unrankPerm(offset, numInner,
+                        length)) {
+                        innerVals.add(this.unrankInner(innerIndex, random));
+                    }
+                    return this.genObj(innerVals);
+                }
+                offset = offset.subtract(numPerms);
+            }
+        }
+        throw outOfBounds(index, this.count(random));
+    }
+
+    /**
+     * Finds the index of an OuterType object within the exhaustive domain, in the order
+     * in which iterExVals() generates them; the inverse of unrank().
+     *
+     * @param value an OuterType within the exhaustive domain
+     * @return the index of the OuterType, in [0, countExVals())
+     * @throws IllegalArgumentException if the OuterType is not within the exhaustive
+     *                                  domain
+     */
+    @Override
+    public BigInteger rank(OuterType value) {
+        int length = value.getValue().size();
+        List<Integer> lengths = this.exDomainSizes();
+        if (!lengths.contains(length)) {
+            throw new IllegalArgumentException(
+                value + " is not in the exhaustive domain");
+        }
+
+        // Count the permutations of every shorter length
+        BigInteger numInner = this.countInner(false);
+        BigInteger offset = BigInteger.ZERO;
+        for (int shorter : lengths.subList(0, lengths.indexOf(length))) {
+            offset = offset.add(this.countPerms(numInner, shorter));
+        }
+
+        // Add the index of this permutation among those of the same length
+        List<BigInteger> innerIndices = new ArrayList<>();
+        for (InnerType innerVal : value.getValue()) {
+            innerIndices.add(this.rankInner(innerVal));
+        }
+        return offset.add(this.rankPerm(innerIndices, numInner));
+    }
+
+    /**
+     * Counts the distinct values that can be contained within the iterable being
+     * generated; may be overridden in the subclasses that don't use the leftChild.
+     *
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the number of distinct inner values
+     */
+    protected BigInteger countInner(boolean random) {
+        return this.leftChild.count(random);
+    }
+
+    /**
+     * Finds the index-th distinct value that can be contained within the iterable being
+     * generated; may be overridden in the subclasses that don't use the leftChild.
+     *
+     * @param index  the index of the inner value, in [0, countInner(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th inner value
+     */
+    protected InnerType unrankInner(BigInteger index, boolean random) {
+        return this.leftChild.unrankVal(index, random);
+    }
+
+    /**
+     * Finds the index of a value that can be contained within the iterable being
+     * generated (within the exhaustive domain); may be overridden in the subclasses that
+     * don't use the leftChild.
+     *
+     * @param innerVal the inner value
+     * @return the index of the inner value, in [0, countInner(false))
+     */
+    protected BigInteger rankInner(InnerType innerVal) {
+        return this.leftChild.rank(innerVal);
+    }
+
+    /**
+     * Counts the permutations of the given length of the given number of distinct inner
+     * values; there are n^L of them.
+     *
+     * @param numInner the number of distinct values that can be contained within the
+     *                 iterable being generated
+     * @param length   the length of the permutations
+     * @return the number of permutations of the given length
+     */
+    protected BigInteger countPerms(BigInteger numInner, int length) {
+        return numInner.pow(length);
+    }
+
+    /**
+     * Finds the index-th permutation of the given length of the inner values, in the
+     * order in which iterPerms() generates them (i.e. lexicographically).
+     *
+     * @param index    the index of the permutation, in [0, countPerms(numInner, length))
+     * @param numInner the number of distinct inner values
+     * @param length   the length of the permutation
+     * @return the indices of the elements of the index-th permutation
+     */
+    protected List<BigInteger> unrankPerm(BigInteger index, BigInteger numInner,
+        int length) {
+        return Combinatorics.unrankProduct(index, numInner, length);
+    }
+
+    /**
+     * Finds the index of a permutation of the inner values among those of the same
+     * length; the inverse of unrankPerm().
+     *
+     * @param innerIndices the indices of the elements of the permutation
+     * @param numInner     the number of distinct inner values
+     * @return the index of the permutation
+     */
+    protected BigInteger rankPerm(List<BigInteger> innerIndices, BigInteger numInner) {
+        return Combinatorics.rankProduct(innerIndices, numInner);
+    }
+
     /**
      * Generates a single valid OuterType object within the random domain; begins by
      * randomly generating a valid length (as constrained by the random domain), and then
      * randomly generates valid elements.
      *
+     * @param stream the RNG to draw from
      * @return a single OuterType object selected from the random domain
      */
     @Override
-    public OuterType genRandVal() {
+    public OuterType genRandVal(SplittableRandom stream) {
         // Randomly select the size, n
-        int length = this.ranDomainChoice().intValue();
+        int length = this.ranDomainChoice(stream).intValue();
 
         // Randomly select n inner values
         List<InnerType> list = new ArrayList<>();
         for (int idx = 0; idx < length; idx++) {
-            InnerType childVal = this.genRandInnerVal();
+            InnerType childVal = this.genRandInnerVal(stream);
             list.add(childVal);
         }
         return this.genObj(list);
@@ -72,10 +255,11 @@ public abstract class AIterablePyNode<OuterType extends AIterablePyObj<InnerType
     /**
      * Helper function for generating one random InnerType object.
      *
+     * @param stream the RNG to draw from
      * @return a randomly-generated object of type InnerType
      */
-    protected InnerType genRandInnerVal() {
-        return this.leftChild.genRandVal();
+    protected InnerType genRandInnerVal(SplittableRandom stream) {
+        return this.leftChild.genRandVal(stream);
     }
 
     /**
@@ -88,67 +272,56 @@ public abstract class AIterablePyNode<OuterType extends AIterablePyObj<InnerType
     protected abstract OuterType genObj(List<InnerType> innerVals);
 
     /**
-     * Generates all permutations of the specified innerVals of length up to and including
-     * the max value in this.exDomain.
+     * Generates all permutations of the specified innerVals of each valid length (as
+     * constrained by this.exDomain). Each length is enumerated directly, rather than
+     * building up every shorter length along the way.
      *
      * @param innerVals the set of values that can be contained within the iterable being
      *                  generated
-     * @return all permutations of the elements in innerVals of length up to and including
-     * the max value in this.exDomain
+     * @return all permutations of the elements in innerVals of valid length
      */
     protected Set<OuterType> genPerms(Set<InnerType> innerVals) {
-        // Create all lists up to (and including) the maximum length
-        int maxLength = this.exDomainMax();
-        Set<OuterType> valPerms = this.genPermsHelper(maxLength, innerVals);
-
-        // Remove lists of lengths that are not found in this.domain
-        Set<OuterType> finalPerms = new HashSet<>();
-        for (OuterType perm : valPerms) {
-            if (this.exDomain.contains(perm.getValue().size())) {
-                finalPerms.add(perm);
-            }
+        // The permutations are distinct by construction, so reserve room for all of them
+        // up front (within reason), so that the set rarely has to be resized
+        List<InnerType> vals = new ArrayList<>(innerVals);
+        BigInteger numInner = BigInteger.valueOf(vals.size());
+        BigInteger numPerms = BigInteger.ZERO;
+        for (int length : this.exDomainSizes()) {
+            numPerms = numPerms.add(this.countPerms(numInner, length));
+        }
+        Set<OuterType> perms = new HashSet<>(capacityFor(numPerms));
+
+        for (int length : this.exDomainSizes()) {
+            this.genPermsHelper(length, vals, perms);
         }
-        return finalPerms;
+        return perms;
     }
 
     /**
-     * Helper function for genListPerms; generates all permutations of the specified
-     * innerVals of length up to and including the input size.
+     * Helper function for genPerms; generates all permutations of the specified
+     * innerVals of exactly the input length, by counting through every sequence of
+     * indices into innerVals (like an odometer, where each position is a digit in base
+     * innerVals.size()). May be overridden in the subclasses that generate something
+     * other than permutations.
      *
-     * @param size      the max size permutation to be generated
-     * @param innerVals the set of values that can be contained within the iterable being
-     *                  randomly-generated
-     * @return all permutations of innerVals up to and including the max size
+     * @param length    the length of the permutations to be generated
+     * @param innerVals the distinct values that can be contained within the iterable
+     *                  being generated
+     * @param perms     the set to which the permutations are added
      */
-    private Set<OuterType> genPermsHelper(int size,
-        Set<InnerType> innerVals) {
-
-        // BASE CASE: size 0 -> return a set containing only the empty list
-        if (size == 0) {
-            Set<OuterType> perms = new HashSet<>();
-            perms.add(this.genObj(new ArrayList<>()));
-            return perms;
+    protected void genPermsHelper(int length, List<InnerType> innerVals,
+        Set<OuterType> perms) {
+        int[] digits = Combinatorics.firstProduct(length, innerVals.size());
+        if (digits == null) {
+            // No permutations of positive length can be made without any values
+            return;
         }
-
-        // RECURSIVE CASE:
-        // Get all permutations that are of length size - 1
-        Set<OuterType> oneShorter = genPermsHelper(size - 1, innerVals);
-
-        // Iterate over each shorter list, adding each possible single element to it
-        Set<OuterType> perms = new HashSet<>(oneShorter);
-        for (OuterType listObj : oneShorter) {
-            // Extract the internal ArrayList representation
-            List<InnerType> list = listObj.getValue();
-
-            // Construct all new lists that result from adding val (a possible inner val
-            // to list
-            for (InnerType val : innerVals) {
-                // Make sure to clone list so as not to mutate the original
-                List<InnerType> listClone = new ArrayList<>(list);
-                listClone.add(val);
-                perms.add(this.genObj(listClone));
+        do {
+            List<InnerType> perm = new ArrayList<>(length);
+            for (int digit : digits) {
+                perm.add(innerVals.get(digit));
             }
-        }
-        return perms;
+            perms.add(this.genObj(perm));
+        } while (Combinatorics.nextProduct(digits, innerVals.size()));
     }
-}
\ No newline at end of file
+}
@@ -2,9 +2,11 @@ package main.rice.node;
 
 import main.rice.obj.APyObj;
 
-import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * An abstract class whose instances represent templates for creating Python objects. Each
@@ -16,20 +18,66 @@ import java.util.Set;
  */
 public abstract class APyNode<ObjType extends APyObj> {
 
+    /**
+     * The largest number of values for which a set is presized up front; larger sets
+     * grow as values are added, so that no table is allocated for values that may never
+     * fit in memory anyway.
+     */
+    public static final int MAX_PRESIZE = 1 << 20;
+
     /**
      * The domain for exhaustive generation.
      */
-    protected List<Number> exDomain;
+    protected Domain exDomain;
 
     /**
      * The domain for random generation.
      */
-    protected List<Number> ranDomain;
+    protected Domain ranDomain;
+
+    /**
+     * The RNG used for random generation when no other stream is given; unseeded unless
+     * setSeed() or setRand() is called.
+     */
+    protected SplittableRandom rand = new SplittableRandom();
+
+    /**
+     * The distinct PyObjs converted from the exhaustive domain of a leaf node, cached by
+     * distinctDomain().
+     */
+    private volatile DomainMemo<List<ObjType>> exVals;
+
+    /**
+     * The distinct PyObjs converted from the random domain of a leaf node, cached by
+     * distinctDomain().
+     */
+    private volatile DomainMemo<List<ObjType>> ranVals;
+
+    /**
+     * The index of each distinct PyObj converted from the exhaustive domain of a leaf
+     * node, cached by rankDomain() when the domain can't find the index itself.
+     */
+    private volatile DomainMemo<Map<ObjType, Integer>> exIndices;
+
+    /**
+     * The valid sizes in the exhaustive domain, cached by domainSizes().
+     */
+    private volatile DomainMemo<List<Integer>> exSizes;
+
+    /**
+     * The valid sizes in the random domain, cached by domainSizes().
+     */
+    private volatile DomainMemo<List<Integer>> ranSizes;
 
     /**
-     * The RNG used for random generation.
+     * The number of distinct PyObjs within the exhaustive domain, cached by count().
      */
-    protected Random rand = new Random();
+    private volatile CountMemo exCount;
+
+    /**
+     * The number of distinct PyObjs within the random domain, cached by count().
+     */
+    private volatile CountMemo ranCount;
 
     /**
      * @return the left child node
@@ -46,34 +94,63 @@ public abstract class APyNode<ObjType extends APyObj> {
     }
 
     /**
-     * Sets the exhaustive domain to the input list of numbers.
+     * Seeds the RNG used for random generation by this node and, deterministically, by
+     * all of its descendants, so that their random values can be reproduced.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.setRand(new SplittableRandom(seed));
+    }
+
+    /**
+     * Sets the RNG used for random generation by this node, and gives each of its
+     * children an independent stream split off from it (the left child first, then the
+     * right), so that the whole tree is determined by the input RNG.
+     *
+     * @param rand the RNG to be used by this node
+     */
+    public void setRand(SplittableRandom rand) {
+        this.rand = rand;
+        if (this.getLeftChild() != null) {
+            this.getLeftChild().setRand(rand.split());
+        }
+        if (this.getRightChild() != null) {
+            this.getRightChild().setRand(rand.split());
+        }
+    }
+
+    /**
+     * Sets the exhaustive domain to the input list of numbers, which is copied into a
+     * compact Domain (unless it already is one).
      *
      * @param domain the exhaustive domain
      */
     public void setExDomain(List<Number> domain) {
-        this.exDomain = domain;
+        this.exDomain = Domain.of(domain);
     }
 
     /**
      * @return the exhaustive domain
      */
-    public List<Number> getExDomain() {
+    public Domain getExDomain() {
         return this.exDomain;
     }
 
     /**
-     * Sets the random domain to the input list of numbers.
+     * Sets the random domain to the input list of numbers, which is copied into a
+     * compact Domain (unless it already is one).
      *
      * @param domain the random domain
      */
     public void setRanDomain(List<Number> domain) {
-        this.ranDomain = domain;
+        this.ranDomain = Domain.of(domain);
     }
 
     /**
      * @return the random domain
      */
-    public List<Number> getRanDomain() {
+    public Domain getRanDomain() {
         return this.ranDomain;
     }
 
@@ -85,11 +162,248 @@ public abstract class APyNode<ObjType extends APyObj> {
     public abstract Set<ObjType> genExVals();
 
     /**
-     * Generates a single valid PyObj of type ObjType within the random domain.
+     * Lazily generates all valid PyObjs of type ObjType within the exhaustive domain.
+     * Each value is generated exactly once, without keeping track of the values that
+     * have already been generated, so the values can be consumed one at a time without
+     * ever holding all of them in memory.
+     *
+     * @return an iterator over the PyObjs of type ObjType comprising the exhaustive
+     * domain
+     */
+    public abstract Iterator<ObjType> iterExVals();
+
+    /**
+     * Computes the number of distinct PyObjs within the exhaustive domain (i.e. the size
+     * of the set returned by genExVals()), without generating any of them.
+     *
+     * @return the number of PyObjs comprising the exhaustive domain
+     */
+    public BigInteger countExVals() {
+        return this.count(false);
+    }
+
+    /**
+     * Computes the number of distinct PyObjs within the random domain, i.e. the number
+     * of distinct values that genRandVal() can generate.
+     *
+     * @return the number of PyObjs comprising the random domain
+     */
+    public BigInteger countRandVals() {
+        return this.count(true);
+    }
+
+    /**
+     * Finds the index-th PyObj within the exhaustive domain, in the order in which
+     * iterExVals() generates them, without generating any of the others.
+     *
+     * @param index the index of the PyObj, in [0, countExVals())
+     * @return the index-th PyObj within the exhaustive domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countExVals())
+     */
+    public ObjType unrank(BigInteger index) {
+        return this.unrankVal(index, false);
+    }
+
+    /**
+     * Finds the index-th PyObj within the exhaustive domain, in the order in which
+     * iterExVals() generates them, without generating any of the others.
+     *
+     * @param index the index of the PyObj, in [0, countExVals())
+     * @return the index-th PyObj within the exhaustive domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countExVals())
+     */
+    public ObjType unrank(long index) {
+        return this.unrank(BigInteger.valueOf(index));
+    }
+
+    /**
+     * Finds the index of a PyObj within the exhaustive domain, in the order in which
+     * iterExVals() generates them; the inverse of unrank().
+     *
+     * @param value a PyObj within the exhaustive domain
+     * @return the index of the PyObj, in [0, countExVals())
+     * @throws IllegalArgumentException if the PyObj is not within the exhaustive domain
+     */
+    public abstract BigInteger rank(ObjType value);
+
+    /**
+     * Finds the index-th PyObj within the random domain, in the same order that
+     * unrank() uses for the exhaustive domain.
+     *
+     * @param index the index of the PyObj, in [0, countRandVals())
+     * @return the index-th PyObj within the random domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countRandVals())
+     */
+    public ObjType unrankRand(BigInteger index) {
+        return this.unrankVal(index, true);
+    }
+
+    /**
+     * Selects the given number of distinct PyObjs uniformly at random from the random
+     * domain, by sampling distinct indices and unranking them (so that no value is ever
+     * generated and then rejected as a duplicate).
+     *
+     * @param numVals the number of PyObjs to select
+     * @return a list of numVals distinct PyObjs selected from the random domain
+     * @throws IllegalArgumentException if the random domain contains fewer than numVals
+     *                                  distinct PyObjs
+     */
+    public List<ObjType> sampleRandVals(int numVals) {
+        BigInteger count = this.countRandVals();
+        if (count.compareTo(BigInteger.valueOf(numVals)) < 0) {
+            throw new IllegalArgumentException("Cannot select " + numVals
+                + " distinct values from a random domain of " + count + " values");
+        }
+        IndexSampler sampler = new IndexSampler(count, this.rand);
+        List<ObjType> vals = new ArrayList<>(numVals);
+        for (int i = 0; i < numVals; i++) {
+            vals.add(this.unrankRand(sampler.next()));
+        }
+        return vals;
+    }
+
+    /**
+     * Computes the number of distinct PyObjs within either domain, using countVals().
+     * The result is cached, and only recomputed once this node's domain is replaced or
+     * the number of values of one of its children changes, so checking the cache only
+     * takes time proportional to the number of nodes in the tree.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyObjs comprising the domain
+     */
+    protected final BigInteger count(boolean random) {
+        Domain domain = this.getDomain(random);
+        BigInteger left = this.getLeftChild() == null
+            ? null : this.getLeftChild().count(random);
+        BigInteger right = this.getRightChild() == null
+            ? null : this.getRightChild().count(random);
+
+        CountMemo memo = random ? this.ranCount : this.exCount;
+        if (memo == null || memo.domain != domain || memo.left != left
+            || memo.right != right) {
+            memo = new CountMemo(domain, left, right, this.countVals(random));
+            if (random) {
+                this.ranCount = memo;
+            } else {
+                this.exCount = memo;
+            }
+        }
+        return memo.count;
+    }
+
+    /**
+     * Computes the number of distinct PyObjs within either domain; use count() instead,
+     * which caches the result.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyObjs comprising the domain
+     */
+    protected abstract BigInteger countVals(boolean random);
+
+    /**
+     * Finds the index-th PyObj within either domain, in the order in which iterExVals()
+     * generates them (for the exhaustive domain).
+     *
+     * @param index  the index of the PyObj, in [0, countVals(random))
+     * @param random true to unrank from the random domain; false for the exhaustive one
+     * @return the index-th PyObj within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    protected abstract ObjType unrankVal(BigInteger index, boolean random);
+
+    /**
+     * Generates a single valid PyObj of type ObjType within the random domain, using
+     * this node's own RNG.
      *
      * @return a single PyObj of type ObjType selected from the random domain
      */
-    public abstract ObjType genRandVal();
+    public ObjType genRandVal() {
+        return this.genRandVal(this.rand);
+    }
+
+    /**
+     * Generates a single valid PyObj of type ObjType within the random domain, drawing
+     * every random choice (including those made for its elements) from the input stream.
+     * Does not touch any of the nodes' own RNGs, so it can safely be called by multiple
+     * threads at once, as long as they use different streams.
+     *
+     * @param stream the RNG to draw from
+     * @return a single PyObj of type ObjType selected from the random domain
+     */
+    public abstract ObjType genRandVal(SplittableRandom stream);
+
+    /**
+     * Generates the given number of valid PyObjs of type ObjType within the random
+     * domain (possibly including duplicates). The i-th value is drawn from the i-th
+     * stream split off from the input stream, so the results only depend on the input
+     * stream, and not on how many threads are used to generate them.
+     *
+     * @param numVals the number of PyObjs to generate
+     * @param stream  the RNG from which the stream for each value is split off
+     * @return a list of numVals PyObjs selected from the random domain
+     */
+    public List<ObjType> genRandVals(int numVals, SplittableRandom stream) {
+        // Split off every stream up front, in order, since splitting advances the input
+        List<SplittableRandom> streams = new ArrayList<>(numVals);
+        for (int i = 0; i < numVals; i++) {
+            streams.add(stream.split());
+        }
+        return IntStream.range(0, numVals).parallel()
+            .mapToObj(i -> this.genRandVal(streams.get(i)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks that a child node can generate enough distinct values to fill a set (or the
+     * keys of a dictionary) of the given size.
+     *
+     * @param size  the size of the set
+     * @param child the node generating the elements of the set
+     * @param what  a description of the elements, for the error message
+     * @throws IllegalStateException if the child's random domain contains fewer than
+     *                               size distinct values
+     */
+    protected static void checkEnoughRandVals(int size, APyNode<?> child, String what) {
+        BigInteger available = child.countRandVals();
+        if (available.compareTo(BigInteger.valueOf(size)) < 0) {
+            throw new IllegalStateException("Cannot generate " + size + " distinct "
+                + what + " from a random domain of " + available + " values");
+        }
+    }
+
+    /**
+     * Computes the initial capacity of a HashSet that will hold the given number of
+     * distinct values, so that it doesn't have to be resized (given the default load
+     * factor of 0.75), unless there are more than MAX_PRESIZE values.
+     *
+     * @param numVals the number of values that will be stored
+     * @return the initial capacity for the HashSet
+     */
+    public static int capacityFor(BigInteger numVals) {
+        return capacityFor(numVals.min(BigInteger.valueOf(MAX_PRESIZE)).intValue());
+    }
+
+    /**
+     * Computes the initial capacity of a HashSet that will hold the given number of
+     * distinct values, so that it doesn't have to be resized (given the default load
+     * factor of 0.75), unless there are more than MAX_PRESIZE values.
+     *
+     * @param numVals the number of values that will be stored
+     * @return the initial capacity for the HashSet
+     */
+    public static int capacityFor(int numVals) {
+        return Math.min(numVals, MAX_PRESIZE) * 4 / 3 + 1;
+    }
+
+    /**
+     * Helper function for selecting one of the two domains.
+     *
+     * @param random true to select the random domain; false for the exhaustive one
+     * @return the selected domain
+     */
+    protected Domain getDomain(boolean random) {
+        return random ? this.ranDomain : this.exDomain;
+    }
 
     /**
      * Finds and returns the maximum value in the exhaustive domain.
@@ -97,24 +411,318 @@ public abstract class APyNode<ObjType extends APyObj> {
      * @return the maximum value in the exhaustive domain
      */
     protected int exDomainMax() {
-        var maxLength = 0;
-        for (Number length : this.exDomain) {
-            if (length.intValue() > maxLength) {
-                // Found new max
-                maxLength = length.intValue();
+        return this.exDomain.isEmpty() ? 0 : Math.max(this.exDomain.max(), 0);
+    }
+
+    /**
+     * Finds the distinct non-negative values in the exhaustive domain (which, for
+     * non-leaf nodes, are the valid sizes), in ascending order.
+     *
+     * @return the valid sizes, in ascending order
+     */
+    protected List<Integer> exDomainSizes() {
+        return this.domainSizes(false);
+    }
+
+    /**
+     * Finds the distinct non-negative values in either domain (which, for non-leaf nodes,
+     * are the valid sizes), in ascending order. The result is cached until the domain is
+     * replaced.
+     *
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return an unmodifiable list of the valid sizes, in ascending order
+     */
+    protected List<Integer> domainSizes(boolean random) {
+        Domain domain = this.getDomain(random);
+        DomainMemo<List<Integer>> memo = random ? this.ranSizes : this.exSizes;
+        if (memo != null && memo.domain == domain) {
+            return memo.value;
+        }
+
+        Set<Integer> sizes = new TreeSet<>();
+        for (Number size : domain) {
+            if (size.intValue() >= 0) {
+                sizes.add(size.intValue());
+            }
+        }
+        memo = new DomainMemo<>(domain, List.copyOf(sizes));
+        if (random) {
+            this.ranSizes = memo;
+        } else {
+            this.exSizes = memo;
+        }
+        return memo.value;
+    }
+
+    /**
+     * Helper function for lazily generating the values of a leaf node; converts each
+     * element of the exhaustive domain into a PyObj, in order, skipping any duplicates.
+     *
+     * @param toObj the function converting an element of the domain into a PyObj
+     * @return an iterator over the distinct PyObjs converted from the exhaustive domain
+     */
+    protected Iterator<ObjType> iterDomain(Function<Number, ObjType> toObj) {
+        return this.distinctDomain(false, toObj).iterator();
+    }
+
+    /**
+     * Helper function for counting the values of a leaf node; counts the distinct PyObjs
+     * converted from the elements of either domain.
+     *
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @param toObj  the function converting an element of the domain into a PyObj
+     * @return the number of distinct PyObjs converted from the domain
+     */
+    protected BigInteger countDomain(boolean random, Function<Number, ObjType> toObj) {
+        return BigInteger.valueOf(this.distinctDomain(random, toObj).size());
+    }
+
+    /**
+     * Helper function for unranking the values of a leaf node; finds the index-th
+     * distinct PyObj converted from either domain.
+     *
+     * @param index  the index of the PyObj
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @param toObj  the function converting an element of the domain into a PyObj
+     * @return the index-th distinct PyObj converted from the domain
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    protected ObjType unrankDomain(BigInteger index, boolean random,
+        Function<Number, ObjType> toObj) {
+        List<ObjType> vals = this.distinctDomain(random, toObj);
+        this.checkIndex(index, BigInteger.valueOf(vals.size()));
+        return vals.get(index.intValue());
+    }
+
+    /**
+     * Helper function for ranking the values of a leaf node; finds the index of a PyObj
+     * among the distinct PyObjs converted from the exhaustive domain.
+     *
+     * @param value the PyObj to be ranked
+     * @param toObj the function converting an element of the domain into a PyObj
+     * @return the index of the PyObj
+     * @throws IllegalArgumentException if the PyObj is not within the exhaustive domain
+     */
+    protected BigInteger rankDomain(ObjType value, Function<Number, ObjType> toObj) {
+        DomainMemo<Map<ObjType, Integer>> memo = this.exIndices;
+        if (memo == null || memo.domain != this.exDomain) {
+            List<ObjType> vals = this.distinctDomain(false, toObj);
+            Map<ObjType, Integer> indices = new HashMap<>();
+            for (int i = 0; i < vals.size(); i++) {
+                indices.put(vals.get(i), i);
+            }
+            memo = new DomainMemo<>(this.exDomain, indices);
+            this.exIndices = memo;
+        }
+
+        Integer index = memo.value.get(value);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                value + " is not in the exhaustive domain");
+        }
+        return BigInteger.valueOf(index);
+    }
+
+    /**
+     * Helper function for ranking the values of a leaf node whose PyObjs can be converted
+     * back into integers. If the exhaustive domain consists of distinct integers that the
+     * node keeps distinct, the index is found by the domain itself (arithmetically for a
+     * range, or by a binary search otherwise); if not, it falls back to rankDomain(value,
+     * toObj).
+     *
+     * @param value the PyObj to be ranked
+     * @param toObj the function converting an element of the domain into a PyObj
+     * @param toInt the function converting a PyObj back into an integer
+     * @return the index of the PyObj
+     * @throws IllegalArgumentException if the PyObj is not within the exhaustive domain
+     */
+    protected BigInteger rankDomain(ObjType value, Function<Number, ObjType> toObj,
+        Function<ObjType, Integer> toInt) {
+        Domain domain = this.exDomain;
+        if (!domain.hasDistinctInts() || !this.keepsIntsDistinct()) {
+            return this.rankDomain(value, toObj);
+        }
+
+        int index = domain.indexOfInt(toInt.apply(value));
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                value + " is not in the exhaustive domain");
+        }
+        return BigInteger.valueOf(index);
+    }
+
+    /**
+     * Converts each element of either domain into a PyObj, in order, skipping any
+     * duplicates. The result is cached until the domain is replaced; if the domain
+     * consists of distinct integers that the node keeps distinct, it is simply a view of
+     * the domain, which converts each element when it is requested.
+     *
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @param toObj  the function converting an element of the domain into a PyObj
+     * @return an unmodifiable list of the distinct PyObjs converted from the domain, in
+     * order
+     */
+    private List<ObjType> distinctDomain(boolean random,
+        Function<Number, ObjType> toObj) {
+        Domain domain = this.getDomain(random);
+        DomainMemo<List<ObjType>> memo = random ? this.ranVals : this.exVals;
+        if (memo != null && memo.domain == domain) {
+            return memo.value;
+        }
+
+        List<ObjType> vals;
+        if (domain.hasDistinctInts() && this.keepsIntsDistinct()) {
+            vals = new AbstractList<>() {
+                @Override
+                public ObjType get(int index) {
+                    return toObj.apply(domain.get(index));
+                }
+
+                @Override
+                public int size() {
+                    return domain.size();
+                }
+            };
+        } else {
+            Set<ObjType> distinct = new LinkedHashSet<>();
+            for (Number value : domain) {
+                distinct.add(toObj.apply(value));
             }
+            vals = Collections.unmodifiableList(new ArrayList<>(distinct));
+        }
+
+        memo = new DomainMemo<>(domain, vals);
+        if (random) {
+            this.ranVals = memo;
+        } else {
+            this.exVals = memo;
+        }
+        return vals;
+    }
+
+    /**
+     * Checks whether this (leaf) node converts distinct integers into distinct PyObjs,
+     * in which case a domain of distinct integers can be indexed directly by the leaf
+     * helpers; may be overridden by the subclasses for which this is true.
+     *
+     * @return true if distinct integers are always converted into distinct PyObjs
+     */
+    protected boolean keepsIntsDistinct() {
+        return false;
+    }
+
+    /**
+     * Checks that an index passed to unrank() is within range.
+     *
+     * @param index the index to be checked
+     * @param count the number of values that can be unranked
+     * @throws IndexOutOfBoundsException if the index is not in [0, count)
+     */
+    protected void checkIndex(BigInteger index, BigInteger count) {
+        if (index.signum() < 0 || index.compareTo(count) >= 0) {
+            throw outOfBounds(index, count);
         }
-        return maxLength;
+    }
+
+    /**
+     * Creates the exception thrown when an index passed to unrank() is out of range.
+     *
+     * @param index the index that is out of range
+     * @param count the number of values that can be unranked
+     * @return an IndexOutOfBoundsException describing the index and the range
+     */
+    protected static IndexOutOfBoundsException outOfBounds(BigInteger index,
+        BigInteger count) {
+        return new IndexOutOfBoundsException("Index " + index
+            + " is out of bounds for " + count + " values");
     }
 
     /**
      * Makes a random choice from the random domain.
      *
+     * @param stream the RNG to draw from
      * @return a random element from the random domain
      */
-    protected Number ranDomainChoice() {
+    protected Number ranDomainChoice(SplittableRandom stream) {
         assert (this.ranDomain.size() > 0);
-        int choice = this.rand.nextInt(this.ranDomain.size());
+        int choice = stream.nextInt(this.ranDomain.size());
         return this.ranDomain.get(choice);
     }
-}
\ No newline at end of file
+
+    /**
+     * A value computed from a domain, along with the domain it was computed from, so
+     * that it can be reused until the domain is replaced (domains are immutable). Memos
+     * are immutable, so they can safely be shared between threads; two threads may race
+     * to compute the same value, which only wastes some work.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class DomainMemo<T> {
+
+        /**
+         * The domain from which the value was computed.
+         */
+        private final Domain domain;
+
+        /**
+         * The value computed from the domain.
+         */
+        private final T value;
+
+        /**
+         * Constructor for a DomainMemo.
+         *
+         * @param domain the domain from which the value was computed
+         * @param value  the value computed from the domain
+         */
+        private DomainMemo(Domain domain, T value) {
+            this.domain = domain;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The number of values of a node, along with what it was computed from: the node's
+     * domain and the numbers of values of its children (compared by identity, since
+     * each child returns the same cached count until its own count changes). Immutable,
+     * like DomainMemo.
+     */
+    private static final class CountMemo {
+
+        /**
+         * The domain from which the count was computed.
+         */
+        private final Domain domain;
+
+        /**
+         * The count of the left child, or null if there is no left child.
+         */
+        private final BigInteger left;
+
+        /**
+         * The count of the right child, or null if there is no right child.
+         */
+        private final BigInteger right;
+
+        /**
+         * The number of values of the node.
+         */
+        private final BigInteger count;
+
+        /**
+         * Constructor for a CountMemo.
+         *
+         * @param domain the domain from which the count was computed
+         * @param left   the count of the left child, or null if there is none
+         * @param right  the count of the right child, or null if there is none
+         * @param count  the number of values of the node
+         */
+        private CountMemo(Domain domain, BigInteger left, BigInteger right,
+            BigInteger count) {
+            this.domain = domain;
+            this.left = left;
+            this.right = right;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package main.rice.node;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Static helpers for counting, ranking, unranking, and stepping through the sequences
+ * and combinations generated by the nodes. The orders used here match those of the lazy
+ * iterators in LazyIterators: sequences (products) and combinations are both ordered
+ * lexicographically, with the first position being the most significant.
+ */
+public final class Combinatorics {
+
+    /**
+     * Private constructor; this class only contains static helpers.
+     */
+    private Combinatorics() {
+    }
+
+    /**
+     * Computes the binomial coefficient n choose k, i.e. the number of subsets of size k
+     * of a set of size n.
+     *
+     * @param n the size of the set
+     * @param k the size of each subset
+     * @return the number of subsets of size k of a set of size n
+     */
+    public static BigInteger choose(BigInteger n, int k) {
+        // Multiply by (n - i) / (i + 1) for each i; each intermediate result is itself a
+        // binomial coefficient, so the division is always exact
+        BigInteger result = BigInteger.ONE;
+        for (int i = 0; i < k; i++) {
+            BigInteger factor = n.subtract(BigInteger.valueOf(i));
+            if (factor.signum() <= 0) {
+                return BigInteger.ZERO;
+            }
+            result = result.multiply(factor).divide(BigInteger.valueOf(i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the index-th sequence of the given length whose elements are drawn from
+     * {0, ..., radix - 1}, in lexicographic order; i.e. writes the index in base radix.
+     *
+     * @param index  the index of the sequence, in [0, radix^length)
+     * @param radix  the number of possible elements
+     * @param length the length of the sequence
+     * @return the elements of the index-th sequence
+     */
+    public static List<BigInteger> unrankProduct(BigInteger index, BigInteger radix,
+        int length) {
+        List<BigInteger> digits = new ArrayList<>(Collections.nCopies(length, null));
+        for (int pos = length - 1; pos >= 0; pos--) {
+            BigInteger[] quotRem = index.divideAndRemainder(radix);
+            digits.set(pos, quotRem[1]);
+            index = quotRem[0];
+        }
+        return digits;
+    }
+
+    /**
+     * Finds the index of a sequence whose elements are drawn from {0, ..., radix - 1},
+     * among all sequences of the same length in lexicographic order; the inverse of
+     * unrankProduct().
+     *
+     * @param digits the elements of the sequence
+     * @param radix  the number of possible elements
+     * @return the index of the sequence
+     */
+    public static BigInteger rankProduct(List<BigInteger> digits, BigInteger radix) {
+        BigInteger index = BigInteger.ZERO;
+        for (BigInteger digit : digits) {
+            index = index.multiply(radix).add(digit);
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index-th combination of the given size of {0, ..., n - 1}, in
+     * lexicographic order.
+     *
+     * <p>Uses the combinatorial number system: reversing each element (c -> n - 1 - c)
+     * reverses the order, and each combination of reversed elements d_0 > ... > d_{k-1}
+     * has the (unique) rank sum_j (d_j choose k - j) in that reversed order.
+     *
+     * @param index the index of the combination, in [0, n choose size)
+     * @param n     the number of possible elements
+     * @param size  the number of elements in the combination
+     * @return the elements of the index-th combination, in ascending order
+     */
+    public static List<BigInteger> unrankCombination(BigInteger index, BigInteger n,
+        int size) {
+        BigInteger remaining = choose(n, size).subtract(BigInteger.ONE).subtract(index);
+        List<BigInteger> elements = new ArrayList<>();
+        BigInteger upper = n;
+        for (int pos = 0; pos < size; pos++) {
+            // Find the largest d < upper such that (d choose k) <= remaining, where
+            // (d choose k) is increasing in d once d >= k - 1
+            int k = size - pos;
+            BigInteger lo = BigInteger.valueOf(k - 1);
+            BigInteger hi = upper.subtract(BigInteger.ONE);
+            while (lo.compareTo(hi) < 0) {
+                BigInteger mid = lo.add(hi).add(BigInteger.ONE).shiftRight(1);
+                if (choose(mid, k).compareTo(remaining) <= 0) {
+                    lo = mid;
+                } else {
+                    hi = mid.subtract(BigInteger.ONE);
+                }
+            }
+            remaining = remaining.subtract(choose(lo, k));
+            elements.add(n.subtract(BigInteger.ONE).subtract(lo));
+            upper = lo;
+        }
+        return elements;
+    }
+
+    /**
+     * Finds the index of a combination of {0, ..., n - 1} among all combinations of the
+     * same size in lexicographic order; the inverse of unrankCombination().
+     *
+     * @param elements the elements of the combination, in ascending order
+     * @param n        the number of possible elements
+     * @return the index of the combination
+     */
+    public static BigInteger rankCombination(List<BigInteger> elements, BigInteger n) {
+        int size = elements.size();
+        BigInteger reversedRank = BigInteger.ZERO;
+        for (int pos = 0; pos < size; pos++) {
+            BigInteger reversed = n.subtract(BigInteger.ONE).subtract(elements.get(pos));
+            reversedRank = reversedRank.add(choose(reversed, size - pos));
+        }
+        return choose(n, size).subtract(BigInteger.ONE).subtract(reversedRank);
+    }
+
+    /**
+     * Finds the first (all-zero) sequence of the given length whose elements are drawn
+     * from {0, ..., radix - 1}, for use with nextProduct().
+     *
+     * @param length the length of the sequence
+     * @param radix  the number of possible elements
+     * @return the first sequence, or null if there are no such sequences
+     */
+    public static int[] firstProduct(int length, int radix) {
+        if (length > 0 && radix == 0) {
+            return null;
+        }
+        return new int[length];
+    }
+
+    /**
+     * Advances a sequence whose elements are drawn from {0, ..., radix - 1} to the next
+     * one in lexicographic order, in place, like an odometer: the last element that
+     * hasn't rolled over is incremented, and every element after it is reset to 0.
+     *
+     * @param digits the sequence to be advanced
+     * @param radix  the number of possible elements
+     * @return true if the sequence was advanced; false if it was already the last one
+     */
+    public static boolean nextProduct(int[] digits, int radix) {
+        int pos = digits.length - 1;
+        while (pos >= 0 && digits[pos] == radix - 1) {
+            digits[pos] = 0;
+            pos--;
+        }
+        if (pos < 0) {
+            return false;
+        }
+        digits[pos]++;
+        return true;
+    }
+
+    /**
+     * Finds the first combination ({0, ..., size - 1}) of the given size of
+     * {0, ..., n - 1}, for use with nextCombination().
+     *
+     * @param size the number of elements in the combination
+     * @param n    the number of possible elements
+     * @return the first combination, or null if there are no such combinations
+     */
+    public static int[] firstCombination(int size, int n) {
+        if (size > n) {
+            return null;
+        }
+        int[] indices = new int[size];
+        for (int pos = 0; pos < size; pos++) {
+            indices[pos] = pos;
+        }
+        return indices;
+    }
+
+    /**
+     * Advances a combination of {0, ..., n - 1} (stored in ascending order) to the next
+     * one in lexicographic order, in place: the last element that has room to grow (the
+     * element at pos can be at most n - size + pos) is incremented, and every element
+     * after it is restarted right after it.
+     *
+     * @param indices the combination to be advanced
+     * @param n       the number of possible elements
+     * @return true if the combination was advanced; false if it was already the last one
+     */
+    public static boolean nextCombination(int[] indices, int n) {
+        int size = indices.length;
+        int pos = size - 1;
+        while (pos >= 0 && indices[pos] == n - size + pos) {
+            pos--;
+        }
+        if (pos < 0) {
+            return false;
+        }
+        indices[pos]++;
+        for (int later = pos + 1; later < size; later++) {
+            indices[later] = indices[later - 1] + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,367 @@
+package main.rice.node;
+
+import java.util.*;
+
+/**
+ * An immutable domain of numbers, as used for the exhaustive and random domains of the
+ * nodes. Domains are lists, so they can be used (and compared) wherever a List<Number>
+ * is expected, but rather than storing a boxed Number for each element, they are backed
+ * by either a range of integers (which takes constant space, however large it is) or an
+ * array of ints; only domains containing non-integer values fall back to storing a list.
+ * Each one supports size(), get(), contains(), and max() without scanning its elements,
+ * as do the integer domains for indexOfInt().
+ */
+public abstract class Domain extends AbstractList<Number> implements RandomAccess {
+
+    /**
+     * Creates a domain containing the integers from lo to hi, inclusive on both bounds.
+     *
+     * @param lo the smallest integer in the domain
+     * @param hi the largest integer in the domain
+     * @return a domain containing every integer in [lo, hi] (as Integers), in ascending
+     * order
+     * @throws IllegalArgumentException if lo is larger than hi
+     */
+    public static Domain range(int lo, int hi) {
+        return new RangeDomain(lo, hi, false);
+    }
+
+    /**
+     * Creates a domain containing the integers from lo to hi, inclusive on both bounds,
+     * as Floats; used for the ranges of float domains.
+     *
+     * @param lo the smallest integer in the domain
+     * @param hi the largest integer in the domain
+     * @return a domain containing every integer in [lo, hi] (as Floats), in ascending
+     * order
+     * @throws IllegalArgumentException if lo is larger than hi
+     */
+    public static Domain floatRange(int lo, int hi) {
+        return new RangeDomain(lo, hi, true);
+    }
+
+    /**
+     * Creates a domain containing the input integers, in order.
+     *
+     * @param values the integers in the domain
+     * @return a domain containing the input integers (as Integers)
+     */
+    public static Domain of(int... values) {
+        return new IntArrayDomain(values.clone());
+    }
+
+    /**
+     * Creates a domain containing the elements of the input list, in order. If the list
+     * is already a domain, it is returned as is; otherwise, the elements are copied, so
+     * later changes to the list do not affect the domain.
+     *
+     * @param values the elements of the domain
+     * @return a domain containing the elements of the input list
+     */
+    public static Domain of(List<? extends Number> values) {
+        if (values instanceof Domain) {
+            return (Domain) values;
+        }
+
+        // Store the elements as ints if they are all Integers
+        int[] ints = new int[values.size()];
+        int i = 0;
+        for (Number value : values) {
+            if (!(value instanceof Integer)) {
+                return new ListDomain(values);
+            }
+            ints[i++] = value.intValue();
+        }
+        return new IntArrayDomain(ints);
+    }
+
+    /**
+     * Finds the largest element of the domain.
+     *
+     * @return the largest element of the domain, as an int
+     * @throws NoSuchElementException if the domain is empty
+     */
+    public abstract int max();
+
+    /**
+     * Checks whether the domain contains the input object.
+     *
+     * @param obj the object to look for
+     * @return true if some element of the domain is equal to obj; false otherwise
+     */
+    @Override
+    public abstract boolean contains(Object obj);
+
+    /**
+     * Finds the index of the first element of the domain that represents the input
+     * integer, whether it is stored as an Integer or as a Float.
+     *
+     * @param value the integer to look for
+     * @return the smallest index of an element equal to value, or -1 if there is none
+     */
+    public abstract int indexOfInt(int value);
+
+    /**
+     * Checks whether the domain consists of integers, no two of which are equal, so that
+     * its elements can be indexed directly rather than being deduplicated first.
+     *
+     * @return true if the elements are distinct integers; false if they may not be
+     */
+    public abstract boolean hasDistinctInts();
+
+    /**
+     * A domain containing a range of consecutive integers; stores only its bounds.
+     */
+    private static class RangeDomain extends Domain {
+
+        /**
+         * The smallest integer in the domain.
+         */
+        private final int lo;
+
+        /**
+         * The number of integers in the domain.
+         */
+        private final int size;
+
+        /**
+         * True if the elements are Floats; false if they are Integers.
+         */
+        private final boolean floats;
+
+        /**
+         * Constructor for a RangeDomain.
+         *
+         * @param lo     the smallest integer in the domain
+         * @param hi     the largest integer in the domain
+         * @param floats true if the elements are Floats; false if they are Integers
+         * @throws IllegalArgumentException if lo is larger than hi, or if the range is
+         *                                  too large to be indexed by an int
+         */
+        private RangeDomain(int lo, int hi, boolean floats) {
+            long size = (long) hi - lo + 1;
+            if (size <= 0 || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid range: " + lo + "~" + hi);
+            }
+            this.lo = lo;
+            this.size = (int) size;
+            this.floats = floats;
+        }
+
+        @Override
+        public Number get(int index) {
+            Objects.checkIndex(index, this.size);
+            int value = this.lo + index;
+            return this.floats ? (Number) (float) value : (Number) value;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public int max() {
+            return this.lo + this.size - 1;
+        }
+
+        @Override
+        public boolean contains(Object obj) {
+            if (this.floats ? !(obj instanceof Float) : !(obj instanceof Integer)) {
+                return false;
+            }
+            double value = ((Number) obj).doubleValue();
+            return value == Math.rint(value) && value >= this.lo && value <= this.max();
+        }
+
+        @Override
+        public int indexOfInt(int value) {
+            return value >= this.lo && value <= this.max() ? value - this.lo : -1;
+        }
+
+        @Override
+        public boolean hasDistinctInts() {
+            return true;
+        }
+    }
+
+    /**
+     * A domain containing arbitrary integers, stored in an array. A sorted copy of the
+     * array is kept as well, along with the original position of each sorted element, so
+     * that contains() and indexOfInt() can use a binary search.
+     */
+    private static class IntArrayDomain extends Domain {
+
+        /**
+         * The integers in the domain, in order.
+         */
+        private final int[] values;
+
+        /**
+         * The integers in the domain, in ascending order.
+         */
+        private final int[] sorted;
+
+        /**
+         * The index in values of each element of sorted; equal elements are ordered by
+         * their index.
+         */
+        private final int[] positions;
+
+        /**
+         * True if no two of the integers are equal.
+         */
+        private final boolean distinct;
+
+        /**
+         * Constructor for an IntArrayDomain; takes ownership of the input array.
+         *
+         * @param values the integers in the domain, in order
+         */
+        private IntArrayDomain(int[] values) {
+            this.values = values;
+
+            // Sort each value together with its index, so that ties are broken by index
+            long[] keyed = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                keyed[i] = (long) values[i] << 32 | i;
+            }
+            Arrays.sort(keyed);
+            this.sorted = new int[values.length];
+            this.positions = new int[values.length];
+            for (int i = 0; i < keyed.length; i++) {
+                this.sorted[i] = (int) (keyed[i] >> 32);
+                this.positions[i] = (int) keyed[i];
+            }
+
+            // Any duplicates are next to each other once sorted
+            boolean distinct = true;
+            for (int i = 1; i < this.sorted.length && distinct; i++) {
+                distinct = this.sorted[i] != this.sorted[i - 1];
+            }
+            this.distinct = distinct;
+        }
+
+        @Override
+        public Number get(int index) {
+            return this.values[index];
+        }
+
+        @Override
+        public int size() {
+            return this.values.length;
+        }
+
+        @Override
+        public int max() {
+            if (this.sorted.length == 0) {
+                throw new NoSuchElementException("Empty domain");
+            }
+            return this.sorted[this.sorted.length - 1];
+        }
+
+        @Override
+        public boolean contains(Object obj) {
+            return obj instanceof Integer
+                && Arrays.binarySearch(this.sorted, (Integer) obj) >= 0;
+        }
+
+        @Override
+        public int indexOfInt(int value) {
+            // Find the first sorted element that is at least the value
+            int lo = 0;
+            int hi = this.sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (this.sorted[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo < this.sorted.length && this.sorted[lo] == value
+                ? this.positions[lo] : -1;
+        }
+
+        @Override
+        public boolean hasDistinctInts() {
+            return this.distinct;
+        }
+    }
+
+    /**
+     * A domain containing arbitrary numbers (such as non-integral floats), stored in a
+     * list, along with a set of them for contains().
+     */
+    private static class ListDomain extends Domain {
+
+        /**
+         * The numbers in the domain, in order.
+         */
+        private final List<Number> values;
+
+        /**
+         * The distinct numbers in the domain.
+         */
+        private final Set<Number> distinct;
+
+        /**
+         * The largest number in the domain, as an int.
+         */
+        private final int max;
+
+        /**
+         * Constructor for a ListDomain; copies the input list.
+         *
+         * @param values the numbers in the domain, in order
+         */
+        private ListDomain(List<? extends Number> values) {
+            this.values = List.copyOf(values);
+            this.distinct = new HashSet<>(values);
+            int max = Integer.MIN_VALUE;
+            for (Number value : values) {
+                max = Math.max(max, value.intValue());
+            }
+            this.max = max;
+        }
+
+        @Override
+        public Number get(int index) {
+            return this.values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.values.size();
+        }
+
+        @Override
+        public int max() {
+            if (this.values.isEmpty()) {
+                throw new NoSuchElementException("Empty domain");
+            }
+            return this.max;
+        }
+
+        @Override
+        public boolean contains(Object obj) {
+            return this.distinct.contains(obj);
+        }
+
+        @Override
+        public int indexOfInt(int value) {
+            for (int i = 0; i < this.values.size(); i++) {
+                if (this.values.get(i).doubleValue() == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasDistinctInts() {
+            // Non-integers may be converted into equal values (e.g. by truncation)
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package main.rice.node;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Draws distinct indices uniformly at random from [0, count), without replacement, using
+ * a sparse Fisher-Yates shuffle: conceptually, the indices are stored in an array that is
+ * shuffled one position at a time, but only the positions that have been swapped are
+ * actually stored. Each draw therefore takes constant expected time and space, no matter
+ * how large count is, and the sampler never repeats an index or has to reject one.
+ */
+public class IndexSampler implements Iterator<BigInteger> {
+
+    /**
+     * The number of indices to draw from.
+     */
+    private final BigInteger count;
+
+    /**
+     * The RNG used to select each index.
+     */
+    private final SplittableRandom rand;
+
+    /**
+     * The number of indices drawn so far; the conceptual array positions before this one
+     * hold the indices already drawn.
+     */
+    private BigInteger numDrawn = BigInteger.ZERO;
+
+    /**
+     * The conceptual array positions (at or after numDrawn) that no longer hold their
+     * own index, mapped to the index they hold instead.
+     */
+    private final Map<BigInteger, BigInteger> swapped = new HashMap<>();
+
+    /**
+     * Constructor for an IndexSampler.
+     *
+     * @param count the number of indices to draw from
+     * @param rand  the RNG used to select each index
+     */
+    public IndexSampler(BigInteger count, SplittableRandom rand) {
+        this.count = count;
+        this.rand = rand;
+    }
+
+    /**
+     * @return true if there are indices that have not been drawn yet; false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        return this.numDrawn.compareTo(this.count) < 0;
+    }
+
+    /**
+     * Draws an index, uniformly at random from those that have not been drawn yet.
+     *
+     * @return the drawn index
+     */
+    @Override
+    public BigInteger next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        // Pick a random position from those that haven't been drawn yet, and swap it
+        // with the first such position (which is then never looked at again)
+        BigInteger pos = this.numDrawn.add(
+            randomBelow(this.count.subtract(this.numDrawn), this.rand));
+        BigInteger drawn = this.swapped.getOrDefault(pos, pos);
+        BigInteger first = this.swapped.getOrDefault(this.numDrawn, this.numDrawn);
+        this.swapped.remove(this.numDrawn);
+        if (!pos.equals(this.numDrawn)) {
+            this.swapped.put(pos, first);
+        }
+        this.numDrawn = this.numDrawn.add(BigInteger.ONE);
+        return drawn;
+    }
+
+    /**
+     * Selects a BigInteger uniformly at random from [0, bound).
+     *
+     * @param bound the (exclusive) upper bound; must be positive
+     * @param rand  the RNG to use
+     * @return a random BigInteger in [0, bound)
+     */
+    public static BigInteger randomBelow(BigInteger bound, SplittableRandom rand) {
+        if (bound.bitLength() < Long.SIZE) {
+            return BigInteger.valueOf(rand.nextLong(bound.longValue()));
+        }
+
+        // Draw uniformly from the smallest power of two that is at least bound, 64 bits
+        // at a time (dropping the excess low-order bits), retrying until the result is
+        // in range (which happens at least half of the time)
+        int numBits = bound.bitLength();
+        int numWords = (numBits + Long.SIZE - 1) / Long.SIZE;
+        BigInteger result;
+        do {
+            result = BigInteger.ZERO;
+            for (int word = 0; word < numWords; word++) {
+                result = result.shiftLeft(Long.SIZE)
+                    .or(new BigInteger(Long.toUnsignedString(rand.nextLong())));
+            }
+            result = result.shiftRight(numWords * Long.SIZE - numBits);
+        } while (result.compareTo(bound) >= 0);
+        return result;
+    }
+}
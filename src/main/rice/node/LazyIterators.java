@@ -0,0 +1,235 @@
+package main.rice.node;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Static helpers for building lazy iterators, which compute each element only when it is
+ * requested. Rather than holding a collection of the values being combined, the
+ * combinatorial iterators (product and combinations) hold a source of fresh iterators
+ * over those values, and restart them as needed, so that their memory use is
+ * proportional to the number of positions being filled rather than to the number of
+ * values produced.
+ */
+public final class LazyIterators {
+
+    /**
+     * Private constructor; this class only contains static helpers.
+     */
+    private LazyIterators() {
+    }
+
+    /**
+     * Lazily applies a function to each element of an iterator.
+     *
+     * @param iter the iterator whose elements are to be transformed
+     * @param func the function to apply
+     * @param <S>  the type of the input elements
+     * @param <T>  the type of the output elements
+     * @return an iterator over the results of applying func to each element of iter
+     */
+    public static <S, T> Iterator<T> map(Iterator<S> iter, Function<S, T> func) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return func.apply(iter.next());
+            }
+        };
+    }
+
+    /**
+     * Lazily concatenates the iterators obtained by applying a function to each element
+     * of an iterator; each inner iterator is only created once the previous one has been
+     * exhausted.
+     *
+     * @param outer the iterator whose elements are to be expanded
+     * @param func  the function mapping each element of outer to an iterator
+     * @param <S>   the type of the elements of outer
+     * @param <T>   the type of the output elements
+     * @return an iterator over the concatenation of func applied to each element of outer
+     */
+    public static <S, T> Iterator<T> flatMap(Iterator<S> outer,
+        Function<S, Iterator<T>> func) {
+        return new Iterator<>() {
+            private Iterator<T> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext() && outer.hasNext()) {
+                    this.current = func.apply(outer.next());
+                }
+                return this.current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.current.next();
+            }
+        };
+    }
+
+    /**
+     * Lazily generates every sequence of the given length whose elements are drawn from
+     * the source, in lexicographic order (with respect to the order of the source). If
+     * the source is duplicate-free, so is the output.
+     *
+     * @param source a supplier of fresh iterators over the possible elements
+     * @param length the length of each sequence
+     * @param <T>    the type of the elements
+     * @return an iterator over all sequences of the given length
+     */
+    public static <T> Iterator<List<T>> product(Supplier<? extends Iterator<T>> source,
+        int length) {
+        return product(Collections.nCopies(length, source));
+    }
+
+    /**
+     * Lazily generates every sequence whose i-th element is drawn from the i-th source,
+     * in lexicographic order (with respect to the order of each source); behaves like an
+     * odometer, where each position (digit) is restarted when it rolls over.
+     *
+     * @param sources a list of suppliers of fresh iterators, one for each position
+     * @param <T>     the type of the elements
+     * @return an iterator over all sequences with one element from each source
+     */
+    public static <T> Iterator<List<T>> product(
+        List<? extends Supplier<? extends Iterator<T>>> sources) {
+        return new Iterator<>() {
+            private final List<Iterator<T>> digits = new ArrayList<>();
+            private final List<T> current = new ArrayList<>();
+            private boolean more = true;
+
+            {
+                // Start every position at its first element
+                for (Supplier<? extends Iterator<T>> source : sources) {
+                    Iterator<T> digit = source.get();
+                    if (!digit.hasNext()) {
+                        this.more = false;
+                        break;
+                    }
+                    this.digits.add(digit);
+                    this.current.add(digit.next());
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.more;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!this.more) {
+                    throw new NoSuchElementException();
+                }
+                List<T> result = new ArrayList<>(this.current);
+
+                // Advance the last position that hasn't rolled over, restarting every
+                // position after it
+                this.more = false;
+                for (int pos = this.digits.size() - 1; pos >= 0; pos--) {
+                    if (this.digits.get(pos).hasNext()) {
+                        this.current.set(pos, this.digits.get(pos).next());
+                        this.more = true;
+                        break;
+                    }
+                    Iterator<T> digit = sources.get(pos).get();
+                    this.digits.set(pos, digit);
+                    this.current.set(pos, digit.next());
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Lazily generates every combination of the given size of the elements of the source
+     * (in the order in which they appear in the source), in lexicographic order. If the
+     * source is duplicate-free, each combination contains distinct elements and no two
+     * combinations contain the same elements.
+     *
+     * @param source a supplier of fresh iterators over the possible elements
+     * @param size   the number of elements in each combination
+     * @param <T>    the type of the elements
+     * @return an iterator over all combinations of the given size
+     */
+    public static <T> Iterator<List<T>> combinations(
+        Supplier<? extends Iterator<T>> source, int size) {
+        return new Iterator<>() {
+            private final List<Iterator<T>> digits = new ArrayList<>();
+            private final List<T> current = new ArrayList<>();
+            private final int[] indices = new int[size];
+            private boolean more;
+
+            {
+                for (int pos = 0; pos < size; pos++) {
+                    this.digits.add(null);
+                    this.current.add(null);
+                }
+                this.more = this.fill(0);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.more;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!this.more) {
+                    throw new NoSuchElementException();
+                }
+                List<T> result = new ArrayList<>(this.current);
+
+                // Advance the last position that can be advanced while leaving enough
+                // elements after it to fill the remaining positions
+                this.more = false;
+                for (int pos = size - 1; pos >= 0; pos--) {
+                    Iterator<T> digit = this.digits.get(pos);
+                    if (digit.hasNext()) {
+                        this.current.set(pos, digit.next());
+                        this.indices[pos]++;
+                        if (this.fill(pos + 1)) {
+                            this.more = true;
+                            break;
+                        }
+                    }
+                }
+                return result;
+            }
+
+            /**
+             * Restarts every position from the given one onwards, so that each holds the
+             * element immediately following that of the previous position.
+             *
+             * @param from the first position to restart
+             * @return true if there were enough elements to fill every position
+             */
+            private boolean fill(int from) {
+                for (int pos = from; pos < size; pos++) {
+                    int index = (pos == 0) ? 0 : this.indices[pos - 1] + 1;
+                    Iterator<T> digit = source.get();
+                    for (int skipped = 0; skipped < index && digit.hasNext(); skipped++) {
+                        digit.next();
+                    }
+                    if (!digit.hasNext()) {
+                        return false;
+                    }
+                    this.digits.set(pos, digit);
+                    this.current.set(pos, digit.next());
+                    this.indices[pos] = index;
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -2,8 +2,11 @@ package main.rice.node;
 
 import main.rice.obj.PyBoolObj;
 
+import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  * A representation of a leaf node for generating PyBoolObjs. Assumes that the domains
@@ -21,18 +24,79 @@ public class PyBoolNode extends APyNode<PyBoolObj> {
     public Set<PyBoolObj> genExVals() {
         Set<PyBoolObj> vals = new HashSet<>();
         for (Number value : this.exDomain) {
-            vals.add(new PyBoolObj((value.intValue() > 0)));
+            vals.add(PyBoolObj.valueOf(value.intValue() > 0));
         }
         return vals;
     }
 
+    /**
+     * Lazily generates all valid PyBoolObjs within the exhaustive domain.
+     *
+     * @return an iterator over the PyBoolObjs comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<PyBoolObj> iterExVals() {
+        return this.iterDomain(this::toObj);
+    }
+
+    /**
+     * Counts the distinct PyBoolObjs within either domain.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyBoolObjs comprising the domain
+     */
+    @Override
+    protected BigInteger countVals(boolean random) {
+        return this.countDomain(random, this::toObj);
+    }
+
+    /**
+     * Finds the index-th distinct PyBoolObj within either domain, in the order in which
+     * the values appear in the domain.
+     *
+     * @param index  the index of the PyBoolObj, in [0, countVals(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th PyBoolObj within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    @Override
+    protected PyBoolObj unrankVal(BigInteger index, boolean random) {
+        return this.unrankDomain(index, random, this::toObj);
+    }
+
+    /**
+     * Finds the index of a PyBoolObj among the distinct PyBoolObjs within the exhaustive
+     * domain; the inverse of unrank().
+     *
+     * @param value a PyBoolObj within the exhaustive domain
+     * @return the index of the PyBoolObj, in [0, countExVals())
+     * @throws IllegalArgumentException if the PyBoolObj is not within the exhaustive
+     *                                  domain
+     */
+    @Override
+    public BigInteger rank(PyBoolObj value) {
+        return this.rankDomain(value, this::toObj);
+    }
+
     /**
      * Generates a single valid PyBoolObj within the random domain.
      *
+     * @param stream the RNG to draw from
      * @return a single PyBoolObj selected from the random domain
      */
     @Override
-    public PyBoolObj genRandVal() {
-        return new PyBoolObj(this.ranDomainChoice().intValue() > 0);
+    public PyBoolObj genRandVal(SplittableRandom stream) {
+        return PyBoolObj.valueOf(this.ranDomainChoice(stream).intValue() > 0);
+    }
+
+    /**
+     * Helper function for converting an element of a domain into a PyBoolObj. Interprets
+     * 0 as False and 1 as True.
+     *
+     * @param value an element of a domain
+     * @return the PyBoolObj representing the value
+     */
+    private PyBoolObj toObj(Number value) {
+        return PyBoolObj.valueOf(value.intValue() > 0);
     }
-}
\ No newline at end of file
+}
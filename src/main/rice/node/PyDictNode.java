@@ -2,7 +2,9 @@ package main.rice.node;
 
 import main.rice.obj.APyObj;
 import main.rice.obj.PyDictObj;
+import main.rice.obj.PyObjInterner;
 
+import java.math.BigInteger;
 import java.util.*;
 
 /**
@@ -68,11 +70,171 @@ public class PyDictNode<KeyType extends APyObj, ValType extends APyObj>
     @Override
     public Set<PyDictObj<KeyType, ValType>> genExVals() {
         // Generate all valid keys and values
-        Set<KeyType> keyVals = this.leftChild.genExVals();
-        Set<ValType> valVals = this.rightChild.genExVals();
+        List<KeyType> keyVals = new ArrayList<>(this.leftChild.genExVals());
+        List<ValType> valVals = new ArrayList<>(this.rightChild.genExVals());
 
-        // Generate all permutations of valid (key, value) pairs of valid length
-        return this.genDictPerms(keyVals, valVals);
+        // The dictionaries are distinct by construction, so reserve room for all of
+        // them up front (within reason), so that the set rarely has to be resized
+        BigInteger numKeys = BigInteger.valueOf(keyVals.size());
+        BigInteger numVals = BigInteger.valueOf(valVals.size());
+        BigInteger numDicts = BigInteger.ZERO;
+        for (int size : this.exDomainSizes()) {
+            numDicts = numDicts.add(countDicts(numKeys, numVals, size));
+        }
+        Set<PyDictObj<KeyType, ValType>> dicts = new HashSet<>(capacityFor(numDicts));
+
+        // Generate the dictionaries of each valid size
+        for (int size : this.exDomainSizes()) {
+            this.genDictsHelper(size, keyVals, valVals, dicts);
+        }
+        return dicts;
+    }
+
+    /**
+     * Lazily generates all valid PyDictObjs within the exhaustive domain, in order of
+     * increasing size. For each size, every combination of that many distinct keys is
+     * paired with every assignment of values to those keys, so that each dictionary is
+     * generated exactly once.
+     *
+     * @return an iterator over the PyDictObjs comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<PyDictObj<KeyType, ValType>> iterExVals() {
+        return LazyIterators.flatMap(this.exDomainSizes().iterator(),
+            size -> LazyIterators.flatMap(
+                LazyIterators.combinations(this.leftChild::iterExVals, size),
+                keys -> LazyIterators.map(
+                    LazyIterators.product(this.rightChild::iterExVals, size),
+                    vals -> this.genObj(keys, vals))));
+    }
+
+    /**
+     * Counts the valid PyDictObjs within either domain, based on the number of valid keys
+     * and values.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyDictObjs comprising the domain
+     */
+    @Override
+    protected BigInteger countVals(boolean random) {
+        BigInteger numKeys = this.leftChild.count(random);
+        BigInteger numVals = this.rightChild.count(random);
+        BigInteger count = BigInteger.ZERO;
+        for (int size : this.domainSizes(random)) {
+            count = count.add(countDicts(numKeys, numVals, size));
+        }
+        return count;
+    }
+
+    /**
+     * Finds the index-th PyDictObj within either domain, in the order in which
+     * iterExVals() generates them (for the exhaustive domain): first by size, then by the
+     * combination of keys, and then by the values assigned to those keys.
+     *
+     * @param index  the index of the PyDictObj, in [0, countVals(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th PyDictObj within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    @Override
+    protected PyDictObj<KeyType, ValType> unrankVal(BigInteger index, boolean random) {
+        if (index.signum() >= 0) {
+            // Skip over the dictionaries of each size until we find the one containing
+            // the index
+            BigInteger numKeys = this.leftChild.count(random);
+            BigInteger numVals = this.rightChild.count(random);
+            BigInteger offset = index;
+            for (int size : this.domainSizes(random)) {
+                BigInteger numDicts = countDicts(numKeys, numVals, size);
+                if (offset.compareTo(numDicts) < 0) {
+                    // Every combination of keys is paired with numVals^size assignments
+                    // of values
+                    BigInteger[] keyAndVal = offset.divideAndRemainder(numVals.pow(size));
+                    List<KeyType> keys = new ArrayList<>();
+                    for (BigInteger keyIndex : Combinatorics.unrankCombination(
+                        keyAndVal[0], numKeys, size)) {
+                        keys.add(this.leftChild.unrankVal(keyIndex, random));
+                    }
+                    List<ValType> vals = new ArrayList<>();
+                    for (BigInteger valIndex : Combinatorics.unrankProduct(
+                        keyAndVal[1], numVals, size)) {
+                        vals.add(this.rightChild.unrankVal(valIndex, random));
+                    }
+                    return this.genObj(keys, vals);
+                }
+                offset = offset.subtract(numDicts);
+            }
+        }
+        throw outOfBounds(index, this.count(random));
+    }
+
+    /**
+     * Finds the index of a PyDictObj within the exhaustive domain, in the order in which
+     * iterExVals() generates them; the inverse of unrank().
+     *
+     * @param value a PyDictObj within the exhaustive domain
+     * @return the index of the PyDictObj, in [0, countExVals())
+     * @throws IllegalArgumentException if the PyDictObj is not within the exhaustive
+     *                                  domain
+     */
+    @Override
+    public BigInteger rank(PyDictObj<KeyType, ValType> value) {
+        int size = value.getValue().size();
+        List<Integer> sizes = this.exDomainSizes();
+        if (!sizes.contains(size)) {
+            throw new IllegalArgumentException(
+                value + " is not in the exhaustive domain");
+        }
+
+        // Count the dictionaries of every smaller size
+        BigInteger numKeys = this.leftChild.countExVals();
+        BigInteger numVals = this.rightChild.countExVals();
+        BigInteger offset = BigInteger.ZERO;
+        for (int smaller : sizes.subList(0, sizes.indexOf(size))) {
+            offset = offset.add(countDicts(numKeys, numVals, smaller));
+        }
+
+        // Rank the keys, and the values in order of their keys' indices
+        Map<BigInteger, BigInteger> keyToVal = new TreeMap<>();
+        for (Map.Entry<KeyType, ValType> entry : value.getValue().entrySet()) {
+            keyToVal.put(this.leftChild.rank(entry.getKey()),
+                this.rightChild.rank(entry.getValue()));
+        }
+        BigInteger keyIndex = Combinatorics.rankCombination(
+            new ArrayList<>(keyToVal.keySet()), numKeys);
+        BigInteger valIndex = Combinatorics.rankProduct(
+            new ArrayList<>(keyToVal.values()), numVals);
+        return offset.add(keyIndex.multiply(numVals.pow(size))).add(valIndex);
+    }
+
+    /**
+     * Counts the dictionaries of the given size; there are (nKeys choose k) ways to pick
+     * k distinct keys, and nVals^k ways to assign values to them.
+     *
+     * @param numKeys the number of distinct valid keys
+     * @param numVals the number of distinct valid values
+     * @param size    the size of the dictionaries
+     * @return the number of dictionaries of the given size
+     */
+    private static BigInteger countDicts(BigInteger numKeys, BigInteger numVals,
+        int size) {
+        return Combinatorics.choose(numKeys, size).multiply(numVals.pow(size));
+    }
+
+    /**
+     * Helper function for generating a PyDictObj mapping each key to the corresponding
+     * value.
+     *
+     * @param keys the keys of the dictionary
+     * @param vals the values of the dictionary, in the same order as the keys
+     * @return a PyDictObj mapping keys[i] to vals[i] (interned, if interning is enabled)
+     */
+    private PyDictObj<KeyType, ValType> genObj(List<KeyType> keys, List<ValType> vals) {
+        Map<KeyType, ValType> map = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), vals.get(i));
+        }
+        return PyObjInterner.intern(new PyDictObj<>(map));
     }
 
     /**
@@ -80,98 +242,61 @@ public class PyDictNode<KeyType extends APyObj, ValType extends APyObj>
      * selecting the size, n (number of (key, value) pairs), and then randomly selects
      * valid (key, value) pairs until there are n unique (key, value) pairs.
      *
+     * @param stream the RNG to draw from
      * @return a single PyDictObj selected from the random domain
+     * @throws IllegalStateException if the selected size is larger than the number of
+     *                               distinct keys in the key child's random domain
      */
     @Override
-    public PyDictObj<KeyType, ValType> genRandVal() {
-        // Randomly select the size, n
-        int size = this.ranDomainChoice().intValue();
+    public PyDictObj<KeyType, ValType> genRandVal(SplittableRandom stream) {
+        // Randomly select the size, n; make sure that there are enough distinct keys to
+        // fill it, as otherwise we would never stop looking for more
+        int size = this.ranDomainChoice(stream).intValue();
+        checkEnoughRandVals(size, this.leftChild, "keys");
 
         // Randomly select n (key, value) pairs; make sure to continuously monitor the
         // size, as we could generate the same key twice resulting in the size not
         // increasing from one iteration to the next
         Map<KeyType, ValType> map = new HashMap<>();
         while (map.size() < size) {
-            KeyType key = this.leftChild.genRandVal();
-            ValType val = this.rightChild.genRandVal();
+            KeyType key = this.leftChild.genRandVal(stream);
+            ValType val = this.rightChild.genRandVal(stream);
             map.put(key, val);
         }
-        return new PyDictObj<>(map);
+        return PyObjInterner.intern(new PyDictObj<>(map));
     }
 
     /**
-     * Generate all permutations of sets of (key, value) pairs where key is an element of
-     * keyVals and value is an element of valVals, of size up to and including the input
-     * size.
+     * Helper function for genExVals; generates all dictionaries of exactly the input
+     * size, by walking through every combination of that many distinct keys (in
+     * lexicographic order of their indices) and, for each one, every assignment of
+     * values to those keys (like an odometer).
      *
-     * @param size    the max size permutation to be generated
-     * @param keyVals the set of valid keys that can be contained within the dictionary
-     *                being generated
-     * @param valVals the set of valid values that can be contained within the dictionary
-     *                being generated
-     * @return all permutations of valid (key, value) pairs of length up to and including
-     * the input size
+     * @param size    the size of the dictionaries to be generated
+     * @param keyVals the distinct valid keys
+     * @param valVals the distinct valid values
+     * @param dicts   the set to which the dictionaries are added
      */
-    private Set<PyDictObj<KeyType, ValType>> genPermsHelper(int size,
-        Set<KeyType> keyVals, Set<ValType> valVals) {
-        // BASE CASE: size 0 -> return a set containing only the empty dictionary
-        if (size == 0) {
-            Set<PyDictObj<KeyType, ValType>> perms = new HashSet<>();
-            perms.add(new PyDictObj<>(new HashMap<>()));
-            return perms;
-        }
-
-        // RECURSIVE CASE:
-        // Get all permutations that are of length size - 1
-        Set<PyDictObj<KeyType, ValType>> oneShorter =
-            genPermsHelper(size - 1, keyVals, valVals);
-
-        // Iterate over each shorter dictionary, adding each possible single (key,
-        // value) pair to it
-        Set<PyDictObj<KeyType, ValType>> perms = new HashSet<>(oneShorter);
-        for (PyDictObj<KeyType, ValType> dictObj : oneShorter) {
-            // Extract the internal HashMap representation
-            Map<KeyType, ValType> dict = dictObj.getValue();
-
-            // Construct all new dictionaries that result from adding (key, value) to dict
-            for (KeyType key : keyVals) {
-                for (ValType val : valVals) {
-                    // Make sure to clone dict so as not to mutate the original
-                    Map<KeyType, ValType> dictClone = new HashMap<>(dict);
-                    dictClone.put(key, val);
-                    perms.add(new PyDictObj<>(dictClone));
-                }
-            }
+    private void genDictsHelper(int size, List<KeyType> keyVals, List<ValType> valVals,
+        Set<PyDictObj<KeyType, ValType>> dicts) {
+        int[] keyIndices = Combinatorics.firstCombination(size, keyVals.size());
+        if (keyIndices == null) {
+            // No dictionaries can be made that are larger than the number of keys
+            return;
         }
-        return perms;
-    }
-
-    /**
-     * Generates all permutations of sets of (key, value) pairs where key is an element of
-     * keyVals and value is an element of valVals, of size up to and including the max
-     * value in this.exDomain.
-     *
-     * @param keyVals the set of valid keys that can be contained within the dictionary
-     *                being generated
-     * @param valVals the set of valid values that can be contained within the dictionary
-     *                being generated
-     * @return all permutations of valid (key, value) pairs of length up to and including
-     * the max value in this.exDomain
-     */
-    private Set<PyDictObj<KeyType, ValType>> genDictPerms(Set<KeyType> keyVals,
-        Set<ValType> valVals) {
-        // Create all dicts up to (and including) the maximum size
-        int maxLength = this.exDomainMax();
-        Set<PyDictObj<KeyType, ValType>> allPerms =
-            genPermsHelper(maxLength, keyVals, valVals);
-
-        // Remove dicts of sizes that are not found in this.domain
-        Set<PyDictObj<KeyType, ValType>> finalPerms = new HashSet<>();
-        for (PyDictObj<KeyType, ValType> dict : allPerms) {
-            if (this.exDomain.contains((dict.getValue()).size())) {
-                finalPerms.add(dict);
+        do {
+            int[] valIndices = Combinatorics.firstProduct(size, valVals.size());
+            if (valIndices == null) {
+                // No values to assign to the keys
+                return;
             }
-        }
-        return finalPerms;
+            do {
+                Map<KeyType, ValType> map = new HashMap<>();
+                for (int pos = 0; pos < size; pos++) {
+                    map.put(keyVals.get(keyIndices[pos]), valVals.get(valIndices[pos]));
+                }
+                dicts.add(PyObjInterner.intern(new PyDictObj<>(map)));
+            } while (Combinatorics.nextProduct(valIndices, valVals.size()));
+        } while (Combinatorics.nextCombination(keyIndices, keyVals.size()));
     }
-}
\ No newline at end of file
+}
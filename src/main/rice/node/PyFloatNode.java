@@ -2,8 +2,11 @@ package main.rice.node;
 
 import main.rice.obj.PyFloatObj;
 
+import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  * A representation of a leaf node for generating PyFloatObjs.
@@ -24,13 +27,73 @@ public class PyFloatNode extends APyNode<PyFloatObj> {
         return vals;
     }
 
+    /**
+     * Lazily generates all valid PyFloatObjs within the exhaustive domain.
+     *
+     * @return an iterator over the PyFloatObjs comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<PyFloatObj> iterExVals() {
+        return this.iterDomain(this::toObj);
+    }
+
+    /**
+     * Counts the distinct PyFloatObjs within either domain.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyFloatObjs comprising the domain
+     */
+    @Override
+    protected BigInteger countVals(boolean random) {
+        return this.countDomain(random, this::toObj);
+    }
+
+    /**
+     * Finds the index-th distinct PyFloatObj within either domain, in the order in which
+     * the values appear in the domain.
+     *
+     * @param index  the index of the PyFloatObj, in [0, countVals(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th PyFloatObj within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    @Override
+    protected PyFloatObj unrankVal(BigInteger index, boolean random) {
+        return this.unrankDomain(index, random, this::toObj);
+    }
+
+    /**
+     * Finds the index of a PyFloatObj among the distinct PyFloatObjs within the
+     * exhaustive domain; the inverse of unrank().
+     *
+     * @param value a PyFloatObj within the exhaustive domain
+     * @return the index of the PyFloatObj, in [0, countExVals())
+     * @throws IllegalArgumentException if the PyFloatObj is not within the exhaustive
+     *                                  domain
+     */
+    @Override
+    public BigInteger rank(PyFloatObj value) {
+        return this.rankDomain(value, this::toObj);
+    }
+
     /**
      * Generates a single valid PyFloatObj within the random domain.
      *
+     * @param stream the RNG to draw from
      * @return a single PyFloatObj selected from the random domain
      */
     @Override
-    public PyFloatObj genRandVal() {
-        return new PyFloatObj(this.ranDomainChoice().floatValue());
+    public PyFloatObj genRandVal(SplittableRandom stream) {
+        return new PyFloatObj(this.ranDomainChoice(stream).floatValue());
+    }
+
+    /**
+     * Helper function for converting an element of a domain into a PyFloatObj.
+     *
+     * @param value an element of a domain
+     * @return the PyFloatObj representing the value
+     */
+    private PyFloatObj toObj(Number value) {
+        return new PyFloatObj(value.floatValue());
     }
-}
\ No newline at end of file
+}
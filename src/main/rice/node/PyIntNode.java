@@ -2,8 +2,11 @@ package main.rice.node;
 
 import main.rice.obj.PyIntObj;
 
+import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  * A representation of a leaf node for generating PyIntObjs.
@@ -19,18 +22,88 @@ public class PyIntNode extends APyNode<PyIntObj> {
     public Set<PyIntObj> genExVals() {
         Set<PyIntObj> vals = new HashSet<>();
         for (Number value : this.exDomain) {
-            vals.add(new PyIntObj(value.intValue()));
+            vals.add(PyIntObj.valueOf(value.intValue()));
         }
         return vals;
     }
 
+    /**
+     * Lazily generates all valid PyIntObjs within the exhaustive domain.
+     *
+     * @return an iterator over the PyIntObjs comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<PyIntObj> iterExVals() {
+        return this.iterDomain(this::toObj);
+    }
+
+    /**
+     * Counts the distinct PyIntObjs within either domain.
+     *
+     * @param random true to count the random domain; false to count the exhaustive one
+     * @return the number of PyIntObjs comprising the domain
+     */
+    @Override
+    protected BigInteger countVals(boolean random) {
+        return this.countDomain(random, this::toObj);
+    }
+
+    /**
+     * Finds the index-th distinct PyIntObj within either domain, in the order in which
+     * the values appear in the domain.
+     *
+     * @param index  the index of the PyIntObj, in [0, countVals(random))
+     * @param random true to use the random domain; false to use the exhaustive one
+     * @return the index-th PyIntObj within the domain
+     * @throws IndexOutOfBoundsException if the index is not in [0, countVals(random))
+     */
+    @Override
+    protected PyIntObj unrankVal(BigInteger index, boolean random) {
+        return this.unrankDomain(index, random, this::toObj);
+    }
+
+    /**
+     * Finds the index of a PyIntObj among the distinct PyIntObjs within the exhaustive
+     * domain; the inverse of unrank().
+     *
+     * @param value a PyIntObj within the exhaustive domain
+     * @return the index of the PyIntObj, in [0, countExVals())
+     * @throws IllegalArgumentException if the PyIntObj is not within the exhaustive
+     *                                  domain
+     */
+    @Override
+    public BigInteger rank(PyIntObj value) {
+        return this.rankDomain(value, this::toObj, PyIntObj::getValue);
+    }
+
+    /**
+     * Distinct integers are always converted into distinct PyIntObjs.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean keepsIntsDistinct() {
+        return true;
+    }
+
     /**
      * Generates a single valid PyIntObj within the random domain.
      *
+     * @param stream the RNG to draw from
      * @return a single PyIntObj selected from the random domain
      */
     @Override
-    public PyIntObj genRandVal() {
-        return new PyIntObj(this.ranDomainChoice().intValue());
+    public PyIntObj genRandVal(SplittableRandom stream) {
+        return PyIntObj.valueOf(this.ranDomainChoice(stream).intValue());
+    }
+
+    /**
+     * Helper function for converting an element of a domain into a PyIntObj.
+     *
+     * @param value an element of a domain
+     * @return the PyIntObj representing the value
+     */
+    private PyIntObj toObj(Number value) {
+        return PyIntObj.valueOf(value.intValue());
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package main.rice.node;
 
 import main.rice.obj.APyObj;
 import main.rice.obj.PyListObj;
+import main.rice.obj.PyObjInterner;
 
 import java.util.List;
 
@@ -27,10 +28,11 @@ public class PyListNode<InnerType extends APyObj> extends AIterablePyNode<
      * Helper function for generating a PyListObj.
      *
      * @param innerVals the elements to be contained by the generated PyListObj
-     * @return a PyListObj object encapsulating the innerVals
+     * @return a PyListObj object encapsulating the innerVals (interned, if interning is
+     * enabled)
      */
     @Override
     protected PyListObj<InnerType> genObj(List<InnerType> innerVals) {
-        return new PyListObj<>(innerVals);
+        return PyObjInterner.intern(new PyListObj<>(innerVals));
     }
 }
\ No newline at end of file
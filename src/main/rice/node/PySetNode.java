@@ -1,11 +1,12 @@
 package main.rice.node;
 
 import main.rice.obj.APyObj;
+import main.rice.obj.PyObjInterner;
 import main.rice.obj.PySetObj;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * A representation of a node for generating PySetObjs.
@@ -30,33 +31,129 @@ public class PySetNode<InnerType extends APyObj> extends AIterablePyNode<
      * generating a valid length (as constrained by the random domain), and then randomly
      * generates valid elements. Overridden to disallow duplicates.
      *
+     * @param stream the RNG to draw from
      * @return a single PySetObj selected from the random domain
+     * @throws IllegalStateException if the selected size is larger than the number of
+     *                               distinct elements in the child's random domain
      */
     @Override
-    public PySetObj<InnerType> genRandVal() {
-        // Randomly select the size, n
-        int length = this.ranDomainChoice().intValue();
+    public PySetObj<InnerType> genRandVal(SplittableRandom stream) {
+        // Randomly select the size, n; make sure that there are enough distinct elements
+        // to fill it, as otherwise we would never stop looking for more
+        int length = this.ranDomainChoice(stream).intValue();
+        checkEnoughRandVals(length, this.leftChild, "elements");
 
         // Randomly select n elements; make sure to continuously monitor the size, as we
         // could generate the same element twice resulting in the size not increasing
         // from one iteration to the next
         Set<InnerType> set = new HashSet<>();
         while (set.size() < length) {
-            InnerType childVal = this.leftChild.genRandVal();
+            InnerType childVal = this.leftChild.genRandVal(stream);
             set.add(childVal);
         }
 
-        return new PySetObj<>(set);
+        return PyObjInterner.intern(new PySetObj<>(set));
     }
 
     /**
-     * Helper function for generating a PyListObj.
+     * Lazily generates all sets of the inner values of each valid size (as constrained by
+     * the exhaustive domain). Overridden to generate combinations rather than
+     * permutations, so that each set is generated exactly once.
      *
-     * @param innerVals the elements to be contained by the generated PyListObj
-     * @return a PyListObj object encapsulating the innerVals
+     * @param innerVals a supplier of fresh iterators over the distinct values that can
+     *                  be contained within the set being generated
+     * @return an iterator over all sets of innerVals of valid size
+     */
+    @Override
+    protected Iterator<PySetObj<InnerType>> iterPerms(
+        Supplier<Iterator<InnerType>> innerVals) {
+        return LazyIterators.flatMap(this.exDomainSizes().iterator(),
+            size -> LazyIterators.map(LazyIterators.combinations(innerVals, size),
+                this::genObj));
+    }
+
+    /**
+     * Counts the sets of the given size of the given number of distinct inner values.
+     * Overridden to count combinations rather than permutations; there are (n choose k)
+     * sets of size k.
+     *
+     * @param numInner the number of distinct values that can be contained within the set
+     *                 being generated
+     * @param size     the size of the sets
+     * @return the number of sets of the given size
+     */
+    @Override
+    protected BigInteger countPerms(BigInteger numInner, int size) {
+        return Combinatorics.choose(numInner, size);
+    }
+
+    /**
+     * Finds the index-th set of the given size of the inner values. Overridden to unrank
+     * combinations rather than permutations.
+     *
+     * @param index    the index of the set, in [0, countPerms(numInner, size))
+     * @param numInner the number of distinct inner values
+     * @param size     the size of the set
+     * @return the indices of the elements of the index-th set, in ascending order
+     */
+    @Override
+    protected List<BigInteger> unrankPerm(BigInteger index, BigInteger numInner,
+        int size) {
+        return Combinatorics.unrankCombination(index, numInner, size);
+    }
+
+    /**
+     * Finds the index of a set of the inner values among those of the same size.
+     * Overridden to rank combinations rather than permutations; since the elements of a
+     * set are unordered, they are sorted first.
+     *
+     * @param innerIndices the indices of the elements of the set
+     * @param numInner     the number of distinct inner values
+     * @return the index of the set
+     */
+    @Override
+    protected BigInteger rankPerm(List<BigInteger> innerIndices, BigInteger numInner) {
+        List<BigInteger> sorted = new ArrayList<>(innerIndices);
+        Collections.sort(sorted);
+        return Combinatorics.rankCombination(sorted, numInner);
+    }
+
+    /**
+     * Generates all sets of the specified innerVals of exactly the input size. Overridden
+     * to walk through the combinations of innerVals directly (in lexicographic order of
+     * their indices), rather than generating every permutation and collapsing them.
+     *
+     * @param size      the size of the sets to be generated
+     * @param innerVals the distinct values that can be contained within the set being
+     *                  generated
+     * @param perms     the set to which the sets are added
+     */
+    @Override
+    protected void genPermsHelper(int size, List<InnerType> innerVals,
+        Set<PySetObj<InnerType>> perms) {
+        int[] indices = Combinatorics.firstCombination(size, innerVals.size());
+        if (indices == null) {
+            // No sets can be made that are larger than the number of values
+            return;
+        }
+        do {
+            Set<InnerType> set = new HashSet<>();
+            for (int index : indices) {
+                set.add(innerVals.get(index));
+            }
+            perms.add(PyObjInterner.intern(new PySetObj<>(set)));
+        } while (Combinatorics.nextCombination(indices, innerVals.size()));
+    }
+
+    /**
+     * Helper function for generating a PySetObj.
+     *
+     * @param innerVals the elements to be contained by the generated PySetObj
+     * @return a PySetObj object encapsulating the innerVals (interned, if interning is
+     * enabled)
      */
     @Override
     protected PySetObj<InnerType> genObj(List<InnerType> innerVals) {
-        return new PySetObj<>(new HashSet<>(innerVals));
+        return PyObjInterner.intern(new PySetObj<>(new HashSet<>(innerVals)));
     }
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package main.rice.node;
 
 import main.rice.obj.PyCharObj;
+import main.rice.obj.PyObjInterner;
 import main.rice.obj.PyStringObj;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
 
 /**
  * A representation of a node for generating PyStringObjs.
@@ -17,6 +17,12 @@ public class PyStringNode extends AIterablePyNode<PyStringObj, PyCharObj> {
      */
     private final String charDomain;
 
+    /**
+     * The distinct characters in charDomain, in order of first appearance; these are the
+     * digits from which the strings in the exhaustive domain are built.
+     */
+    private final char[] distinctChars;
+
     /**
      * Constructor fot a PyStringNode; initializes its character domain.
      *
@@ -24,45 +30,203 @@ public class PyStringNode extends AIterablePyNode<PyStringObj, PyCharObj> {
      */
     public PyStringNode(String charDomain) {
         this.charDomain = charDomain;
+        StringBuilder distinct = new StringBuilder();
+        for (char character : charDomain.toCharArray()) {
+            if (distinct.indexOf(String.valueOf(character)) < 0) {
+                distinct.append(character);
+            }
+        }
+        this.distinctChars = distinct.toString().toCharArray();
     }
 
     /**
-     * Generates all valid PyStringObjs within the exhaustive domain; begins by generating
-     * all valid characters, and then finds all permutations of them of valid length (as
+     * Generates all valid PyStringObjs within the exhaustive domain; finds all
+     * permutations of the distinct characters in charDomain of valid length (as
      * constrained by the exhaustive domain).
      *
      * @return a set of PyStringObjs comprising the exhaustive domain
      */
     @Override
     public Set<PyStringObj> genExVals() {
-        // Convert charDomain from a String to a list of each individual character
-        // in that string
-        Set<PyCharObj> innerVals =
-            new HashSet<>(new PyStringObj(this.charDomain).getValue());
+        return this.genPerms(new HashSet<>(new PyStringObj(
+            new String(this.distinctChars)).getValue()));
+    }
+
+    /**
+     * Helper function for genPerms; generates all strings of exactly the input length
+     * whose characters are drawn from innerVals. Overridden to fill a reusable buffer of
+     * chars, rather than building a list of PyCharObjs for each string.
+     *
+     * @param length    the length of the strings to be generated
+     * @param innerVals the distinct characters that can be contained within the strings
+     * @param perms     the set to which the strings are added
+     */
+    @Override
+    protected void genPermsHelper(int length, List<PyCharObj> innerVals,
+        Set<PyStringObj> perms) {
+        char[] chars = new char[innerVals.size()];
+        for (int idx = 0; idx < chars.length; idx++) {
+            chars[idx] = innerVals.get(idx).getValue();
+        }
+        int[] digits = Combinatorics.firstProduct(length, chars.length);
+        if (digits == null) {
+            // No strings of positive length can be made without any characters
+            return;
+        }
+        char[] buffer = new char[length];
+        do {
+            perms.add(this.genString(chars, digits, buffer));
+        } while (Combinatorics.nextProduct(digits, chars.length));
+    }
+
+    /**
+     * Lazily generates all valid PyStringObjs within the exhaustive domain, in order of
+     * increasing length.
+     *
+     * @return an iterator over the PyStringObjs comprising the exhaustive domain
+     */
+    @Override
+    public Iterator<PyStringObj> iterExVals() {
+        return LazyIterators.flatMap(this.exDomainSizes().iterator(), this::iterStrings);
+    }
+
+    /**
+     * Lazily generates all strings of exactly the input length whose characters are
+     * drawn from distinctChars, in lexicographic order (with respect to the order of
+     * distinctChars); the strings are built directly from an odometer of indices into
+     * distinctChars.
+     *
+     * @param length the length of the strings to be generated
+     * @return an iterator over all strings of the given length
+     */
+    private Iterator<PyStringObj> iterStrings(int length) {
+        char[] chars = this.distinctChars;
+        int[] first = Combinatorics.firstProduct(length, chars.length);
+        if (first == null) {
+            return Collections.emptyIterator();
+        }
+        return new Iterator<>() {
+            private final int[] digits = first;
+            private final char[] buffer = new char[length];
+            private boolean more = true;
+
+            @Override
+            public boolean hasNext() {
+                return this.more;
+            }
+
+            @Override
+            public PyStringObj next() {
+                if (!this.more) {
+                    throw new NoSuchElementException();
+                }
+                PyStringObj str = PyStringNode.this.genString(chars, this.digits,
+                    this.buffer);
+                this.more = Combinatorics.nextProduct(this.digits, chars.length);
+                return str;
+            }
+        };
+    }
+
+    /**
+     * Counts the distinct characters in charDomain. Overridden since the characters are
+     * drawn from charDomain rather than generated by a child node.
+     *
+     * @param random unused, since both domains use the same characters
+     * @return the number of distinct characters in charDomain
+     */
+    @Override
+    protected BigInteger countInner(boolean random) {
+        return BigInteger.valueOf(this.distinctChars.length);
+    }
 
-        // Get all permutations in the form of a list of lists of characters
-        return this.genPerms(innerVals);
+    /**
+     * Finds the index-th distinct character in charDomain.
+     *
+     * @param index  the index of the character, in [0, countInner(random))
+     * @param random unused, since both domains use the same characters
+     * @return the index-th distinct character in charDomain
+     */
+    @Override
+    protected PyCharObj unrankInner(BigInteger index, boolean random) {
+        return PyCharObj.valueOf(this.distinctChars[index.intValue()]);
+    }
+
+    /**
+     * Finds the index of a character among the distinct characters in charDomain.
+     *
+     * @param innerVal the character
+     * @return the index of the character, in [0, countInner(false))
+     * @throws IllegalArgumentException if the character is not in charDomain
+     */
+    @Override
+    protected BigInteger rankInner(PyCharObj innerVal) {
+        int index = new String(this.distinctChars).indexOf(innerVal.getValue());
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                innerVal + " is not in the character domain");
+        }
+        return BigInteger.valueOf(index);
     }
 
     /**
      * Helper function for generating a PyStringObj.
      *
      * @param innerVals the elements to be contained by the generated PyStringObj
-     * @return a PyStringObj object encapsulating the innerVals
+     * @return a PyStringObj object encapsulating the innerVals (interned, if interning
+     * is enabled)
      */
     @Override
     protected PyStringObj genObj(List<PyCharObj> innerVals) {
-        return new PyStringObj(innerVals);
+        return PyObjInterner.intern(new PyStringObj(innerVals));
     }
 
     /**
      * Helper function for generating one random PyCharObj object.
      *
+     * @param stream the RNG to draw from
      * @return a randomly-generated object of type PyCharObj from this.charDomain
      */
     @Override
-    protected PyCharObj genRandInnerVal() {
-        int choice = this.rand.nextInt(this.charDomain.length());
-        return new PyCharObj(this.charDomain.charAt(choice));
+    protected PyCharObj genRandInnerVal(SplittableRandom stream) {
+        int choice = stream.nextInt(this.charDomain.length());
+        return PyCharObj.valueOf(this.charDomain.charAt(choice));
+    }
+
+    /**
+     * Generates a single valid PyStringObj within the random domain; randomly selects a
+     * valid length (as constrained by the random domain), and then randomly selects
+     * each character from charDomain. Overridden to build the string directly from the
+     * selected characters.
+     *
+     * @param stream the RNG to draw from
+     * @return a single PyStringObj selected from the random domain
+     */
+    @Override
+    public PyStringObj genRandVal(SplittableRandom stream) {
+        int length = this.ranDomainChoice(stream).intValue();
+        char[] buffer = new char[length];
+        for (int idx = 0; idx < length; idx++) {
+            int choice = stream.nextInt(this.charDomain.length());
+            buffer[idx] = this.charDomain.charAt(choice);
+        }
+        return PyObjInterner.intern(new PyStringObj(new String(buffer)));
+    }
+
+    /**
+     * Helper function for building the PyStringObj whose characters are given by a
+     * sequence of indices.
+     *
+     * @param chars  the characters that the indices refer to
+     * @param digits the index (into chars) of each character of the string
+     * @param buffer a scratch buffer of the same length as digits
+     * @return a PyStringObj containing the characters at the given indices (interned, if
+     * interning is enabled)
+     */
+    private PyStringObj genString(char[] chars, int[] digits, char[] buffer) {
+        for (int idx = 0; idx < digits.length; idx++) {
+            buffer[idx] = chars[digits[idx]];
+        }
+        return PyObjInterner.intern(new PyStringObj(new String(buffer)));
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package main.rice.node;
 
 import main.rice.obj.APyObj;
+import main.rice.obj.PyObjInterner;
 import main.rice.obj.PyTupleObj;
 
 import java.util.List;
@@ -27,10 +28,11 @@ public class PyTupleNode<InnerType extends APyObj> extends
      * Helper function for generating a PyTupleObj.
      *
      * @param innerVals the elements to be contained by the generated PyTupleObj
-     * @return a PyTupleObj object encapsulating the innerVals
+     * @return a PyTupleObj object encapsulating the innerVals (interned, if interning
+     * is enabled)
      */
     @Override
     protected PyTupleObj<InnerType> genObj(List<InnerType> innerVals) {
-        return new PyTupleObj<>(innerVals);
+        return PyObjInterner.intern(new PyTupleObj<>(innerVals));
     }
 }
\ No newline at end of file
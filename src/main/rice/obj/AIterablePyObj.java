@@ -11,15 +11,92 @@ import java.util.List;
 public abstract class AIterablePyObj<InnerType extends APyObj> extends APyObj {
 
     /**
-     * The contents of this iterable object.
+     * The contents of this iterable object; unmodifiable.
      */
-    protected List<InnerType> value;
+    protected final List<InnerType> value;
 
     /**
-     * @return the Java list representing this iterable object
+     * Constructor for an AIterablePyObj; stores an unmodifiable copy of the input list,
+     * whose (list) hash code becomes the hash code of this object, and whose elements
+     * make up the fingerprint of this object.
+     *
+     * @param value     the contents of this iterable object
+     * @param typeOrder the position of this object's type in the order of types, which
+     *                  distinguishes its fingerprint from those of other types
+     */
+    protected AIterablePyObj(List<InnerType> value, int typeOrder) {
+        this(List.copyOf(value), value.hashCode(),
+            Fingerprints.ofElements(typeOrder, value));
+    }
+
+    /**
+     * Constructor for an AIterablePyObj; stores the input list, which must not be
+     * modified afterwards, along with the input hash code and fingerprint.
+     *
+     * @param value       the contents of this iterable object; must be unmodifiable
+     * @param hash        the hash code of this object
+     * @param fingerprint the fingerprint of this object
+     */
+    protected AIterablePyObj(List<InnerType> value, int hash, long fingerprint) {
+        super(hash, fingerprint);
+        this.value = value;
+    }
+
+    /**
+     * @return the (unmodifiable) Java list representing this iterable object
      */
     @Override
     public List<InnerType> getValue() {
         return this.value;
     }
-}
\ No newline at end of file
+
+    /**
+     * Compares this to another iterable object of the same type by value,
+     * lexicographically: element by element, with a prefix being less than any longer
+     * sequence that starts with it.
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        return compareLexicographically(this.value, ((AIterablePyObj<?>) obj).value);
+    }
+
+    /**
+     * Compares two lists of PyObjs lexicographically.
+     *
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a negative number, zero, or a positive number if list1 is less than, equal
+     * to, or greater than list2
+     */
+    static int compareLexicographically(List<? extends APyObj> list1,
+        List<? extends APyObj> list2) {
+        int length = Math.min(list1.size(), list2.size());
+        for (int idx = 0; idx < length; idx++) {
+            int byElem = list1.get(idx).compareTo(list2.get(idx));
+            if (byElem != 0) {
+                return byElem;
+            }
+        }
+        return Integer.compare(list1.size(), list2.size());
+    }
+
+    /**
+     * Appends the string representations of the elements of a list to the input
+     * builder, separated by ", ".
+     *
+     * @param repr  the builder to which the representations are appended
+     * @param elems the elements whose representations are to be appended
+     */
+    static void appendElems(StringBuilder repr, List<? extends APyObj> elems) {
+        for (int idx = 0; idx < elems.size(); idx++) {
+            if (idx > 0) {
+                repr.append(", ");
+            }
+            elems.get(idx).appendRepr(repr);
+        }
+    }
+}
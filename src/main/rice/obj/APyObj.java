@@ -1,23 +1,92 @@
 package main.rice.obj;
 
 /**
- * An abstract class whose instances represent specific Python objects.
+ * An abstract class whose instances represent specific Python objects. PyObjs are
+ * totally ordered: first by type (bool, int, float, char, str, list, tuple, set, dict),
+ * and then by value; this order is used to store the elements of sets and dicts in a
+ * canonical order.
  */
-public abstract class APyObj {
+public abstract class APyObj implements Comparable<APyObj> {
+
+    /**
+     * The hash code of this object, computed once at construction; since PyObjs are
+     * immutable, it never changes.
+     */
+    private final int hash;
+
+    /**
+     * The 64-bit fingerprint of this object, computed once at construction.
+     */
+    private final long fingerprint;
+
+    /**
+     * Constructor for an APyObj; stores its hash code and fingerprint, which each
+     * subclass computes from its value.
+     *
+     * @param hash        the hash code of this object
+     * @param fingerprint the fingerprint of this object (see Fingerprints)
+     */
+    protected APyObj(int hash, long fingerprint) {
+        this.hash = hash;
+        this.fingerprint = fingerprint;
+    }
 
     /**
      * @return the underlying (Java) representation of this Python object
      */
     public abstract Object getValue();
 
+    /**
+     * @return the position of this object's type in the order of types
+     */
+    protected abstract int typeOrder();
+
+    /**
+     * Compares this to another object of the same type by value.
+     *
+     * @param obj the object to compare against; must have the same typeOrder() as this
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    protected abstract int compareValue(APyObj obj);
+
+    /**
+     * Compares this to the input object, first by type and then by value.
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    public int compareTo(APyObj obj) {
+        if (this == obj) {
+            return 0;
+        }
+        int byType = Integer.compare(this.typeOrder(), obj.typeOrder());
+        return (byType != 0) ? byType : this.compareValue(obj);
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation to the input builder. Nested objects append themselves to the same
+     * builder, so no intermediate strings are built for them.
+     *
+     * @param repr the builder to which the representation is appended
+     */
+    public abstract void appendRepr(StringBuilder repr);
+
     /**
      * Builds and returns a string representation of this object that mirrors the Python
-     * string representation.
+     * string representation, using appendRepr().
      *
      * @return a string representation of this object
      */
     @Override
-    public abstract String toString();
+    public String toString() {
+        StringBuilder repr = new StringBuilder();
+        this.appendRepr(repr);
+        return repr.toString();
+    }
 
     /**
      * Compares this to the input object by value.
@@ -27,8 +96,13 @@ public abstract class APyObj {
      */
     @Override
     public boolean equals(Object obj) {
-        // If obj is the wrong type, it's clearly not equivalent
-        if (!(obj instanceof APyObj)) {
+        if (this == obj) {
+            return true;
+        }
+
+        // If obj is the wrong type, it's clearly not equivalent; neither is it if its
+        // hash code differs, which is much cheaper to check than the value
+        if (!(obj instanceof APyObj) || this.hash != ((APyObj) obj).hash) {
             return false;
         }
 
@@ -37,13 +111,25 @@ public abstract class APyObj {
     }
 
     /**
-     * Computes a hash code based on this object's value, such that two objects that are
-     * considered equal by .equals() will also have the same hash code.
+     * Returns a hash code based on this object's value, such that two objects that are
+     * considered equal by .equals() will also have the same hash code; computed once, at
+     * construction.
      *
      * @return the hash code for this object
      */
     @Override
-    public int hashCode() {
-        return this.getValue().hashCode();
+    public final int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * Returns a 64-bit structural hash of this object's value, such that two objects
+     * that are considered equal by .equals() will also have the same fingerprint, and
+     * unequal objects almost never do; computed once, at construction.
+     *
+     * @return the fingerprint of this object
+     */
+    public final long fingerprint() {
+        return this.fingerprint;
     }
-}
\ No newline at end of file
+}
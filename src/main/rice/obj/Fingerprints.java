@@ -0,0 +1,91 @@
+package main.rice.obj;
+
+import java.util.List;
+
+/**
+ * Static helpers for computing the 64-bit fingerprints of PyObjs. A fingerprint is a
+ * structural hash: equal objects always have equal fingerprints, and unequal objects
+ * have equal fingerprints only by (very unlikely) accident, so fingerprints can stand in
+ * for the objects themselves when checking for duplicates, with equals() only needed
+ * when two fingerprints collide. Fingerprints only depend on the values of objects, so
+ * they are the same from one run to the next.
+ *
+ * <p>Each fingerprint starts from a seed that depends on the type of the object, which
+ * is then combined with each component of its value in turn (its elements, for an
+ * iterable object), using the finalizer of the SplitMix64 generator to spread the bits.
+ */
+public final class Fingerprints {
+
+    /**
+     * An odd constant with well-distributed bits (2^64 divided by the golden ratio).
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Private constructor; this class only contains static helpers.
+     */
+    private Fingerprints() {
+    }
+
+    /**
+     * Computes the seed of the fingerprints of objects of a given type.
+     *
+     * @param tag a number identifying the type of object
+     * @return the seed of the fingerprint
+     */
+    public static long start(int tag) {
+        return mix(GOLDEN_GAMMA * (tag + 1L));
+    }
+
+    /**
+     * Combines a fingerprint with the next component of a value; the result depends on
+     * the order in which components are combined.
+     *
+     * @param fingerprint the fingerprint of the components so far
+     * @param component   the next component
+     * @return the fingerprint of the components so far, followed by component
+     */
+    public static long combine(long fingerprint, long component) {
+        return mix(fingerprint * GOLDEN_GAMMA + component);
+    }
+
+    /**
+     * Computes the fingerprint of an object whose value consists of a single number.
+     *
+     * @param tag   a number identifying the type of object
+     * @param value the value, as a long
+     * @return the fingerprint of the object
+     */
+    public static long ofScalar(int tag, long value) {
+        return combine(start(tag), value);
+    }
+
+    /**
+     * Computes the fingerprint of a sequence of PyObjs, from their (cached)
+     * fingerprints.
+     *
+     * @param tag   a number identifying the type of object
+     * @param elems the elements of the sequence
+     * @return the fingerprint of the sequence
+     */
+    public static long ofElements(int tag, List<? extends APyObj> elems) {
+        long fingerprint = start(tag);
+        for (int idx = 0; idx < elems.size(); idx++) {
+            fingerprint = combine(fingerprint, elems.get(idx).fingerprint());
+        }
+        return combine(fingerprint, elems.size());
+    }
+
+    /**
+     * Spreads the bits of the input, such that every bit of the output depends on every
+     * bit of the input.
+     *
+     * @param z the input
+     * @return the mixed bits
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
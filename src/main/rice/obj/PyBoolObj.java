@@ -5,20 +5,47 @@ package main.rice.obj;
  */
 public class PyBoolObj extends APyObj {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 0;
+
+    /**
+     * The shared PyBoolObj representing True.
+     */
+    public static final PyBoolObj TRUE = new PyBoolObj(true);
+
+    /**
+     * The shared PyBoolObj representing False.
+     */
+    public static final PyBoolObj FALSE = new PyBoolObj(false);
+
     /**
      * The value of this PyBoolObj.
      */
     private final Boolean value;
 
     /**
-     * Constructor for a PyBoolObj; initializes its value to the input.
+     * Constructor for a PyBoolObj; initializes its value to the input. Prefer valueOf(),
+     * which returns one of the two shared PyBoolObjs.
      *
      * @param value the value of this PyBoolObj
      */
     public PyBoolObj(Boolean value) {
+        super(value.hashCode(), Fingerprints.ofScalar(TYPE_ORDER, value ? 1 : 0));
         this.value = value;
     }
 
+    /**
+     * Returns the (shared) PyBoolObj with the input value.
+     *
+     * @param value the value of the PyBoolObj
+     * @return TRUE if value is true; FALSE otherwise
+     */
+    public static PyBoolObj valueOf(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
     /**
      * @return the underlying (Java Boolean) representation of this PyBoolObj
      */
@@ -28,16 +55,33 @@ public class PyBoolObj extends APyObj {
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation (i.e., True or False).
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
+
+    /**
+     * Compares this to another PyBoolObj by value (False is less than True).
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        return Boolean.compare(this.value, ((PyBoolObj) obj).value);
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation (i.e., True or False) to the input builder.
      *
-     * @return a string representation of this object
+     * @param repr the builder to which the representation is appended
      */
     @Override
-    public String toString() {
-        if (!this.value) {
-            return "False";
-        }
-        return "True";
+    public void appendRepr(StringBuilder repr) {
+        repr.append(this.value ? "True" : "False");
     }
 }
\ No newline at end of file
@@ -6,20 +6,49 @@ package main.rice.obj;
  */
 public class PyCharObj extends APyObj {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 3;
+
+    /**
+     * The shared PyCharObjs, indexed by character; each one is created the first time it
+     * is requested from valueOf(). (Since PyCharObjs are immutable, it doesn't matter if
+     * two threads race to create the same one.)
+     */
+    private static final PyCharObj[] CACHE = new PyCharObj[Character.MAX_VALUE + 1];
+
     /**
      * The value of this PyCharObj.
      */
-    private Character value;
+    private final char value;
 
     /**
      * Constructor for a PyCharObj; initializes its value to a string of the input.
+     * Prefer valueOf(), which shares the PyCharObj for each character.
      *
      * @param value a character representing the value of this PyCharObj
      */
-    public PyCharObj(Character value) {
+    public PyCharObj(char value) {
+        super(Character.hashCode(value), Fingerprints.ofScalar(TYPE_ORDER, value));
         this.value = value;
     }
 
+    /**
+     * Returns the (shared) PyCharObj with the input value.
+     *
+     * @param value the value of the PyCharObj
+     * @return the PyCharObj with the input value
+     */
+    public static PyCharObj valueOf(char value) {
+        PyCharObj cached = CACHE[value];
+        if (cached == null) {
+            cached = new PyCharObj(value);
+            CACHE[value] = cached;
+        }
+        return cached;
+    }
+
     /**
      * @return the underlying (Java Character) representation of this PyCharObj
      */
@@ -29,14 +58,45 @@ public class PyCharObj extends APyObj {
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation; uses single quotes for compatibility with command-line
-     * invocation of Python scripts.
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
+
+    /**
+     * Compares this to another PyCharObj by value (by code point).
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        return Character.compare(this.value, ((PyCharObj) obj).value);
+    }
+
+    /**
+     * Compares this to the input object by value, without boxing.
+     *
+     * @param obj the object to compare against
+     * @return true if obj is a PyCharObj with the same value; false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PyCharObj && ((PyCharObj) obj).value == this.value;
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation to the input builder; uses single quotes for compatibility with
+     * command-line invocation of Python scripts.
      *
-     * @return a string representation of this object
+     * @param repr the builder to which the representation is appended
      */
     @Override
-    public String toString() {
-        return "'" + this.value.toString() + "'";
+    public void appendRepr(StringBuilder repr) {
+        repr.append('\'').append(this.value).append('\'');
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package main.rice.obj;
 
-import java.util.Map;
+import java.util.*;
 
 /**
- * A representation of Python objects of type dict.
+ * A representation of Python objects of type dict. The (key, value) pairs are stored in
+ * ascending order of their keys, so that equal dicts have identical internal
+ * representations (and string representations).
  *
  * @param <KeyType> the type of each key in the dictionary
  * @param <ValType> the type of each value in the dictionary
@@ -11,21 +13,111 @@ import java.util.Map;
 public class PyDictObj<KeyType extends APyObj, ValType extends APyObj> extends APyObj {
 
     /**
-     * The contents of this PyDictObj.
+     * The position of this type in the order of types (see APyObj).
      */
-    private final Map<KeyType, ValType> value;
+    private static final int TYPE_ORDER = 8;
 
     /**
-     * Constructor for a PyDictObj; initializes its value to the input.
+     * The keys of this PyDictObj, in ascending order; unmodifiable.
+     */
+    private final List<KeyType> keys;
+
+    /**
+     * The values of this PyDictObj, where the i-th value is mapped to by the i-th key;
+     * unmodifiable.
+     */
+    private final List<ValType> vals;
+
+    /**
+     * An unmodifiable Map view of the (key, value) pairs, which finds keys by binary
+     * search.
+     */
+    private final Map<KeyType, ValType> value = new SortedView();
+
+    /**
+     * Constructor for a PyDictObj; initializes its value to a copy of the input, sorted
+     * by key.
      *
      * @param value the value of this PyDictObj
      */
     public PyDictObj(Map<KeyType, ValType> value) {
-        this.value = value;
+        this(sortedKeys(value), value);
+    }
+
+    /**
+     * Constructor for a PyDictObj; looks up the value of each of the (sorted) keys.
+     *
+     * @param keys  the keys of the input map, in ascending order; must be unmodifiable
+     * @param value the map whose contents become the value of this PyDictObj
+     */
+    private PyDictObj(List<KeyType> keys, Map<KeyType, ValType> value) {
+        this(keys, valsFor(keys, value));
+    }
+
+    /**
+     * Constructor for a PyDictObj; initializes its keys and values to the inputs.
+     *
+     * @param keys the keys of this PyDictObj, in ascending order; must be unmodifiable
+     * @param vals the values of this PyDictObj, where the i-th value is mapped to by the
+     *             i-th key; must be unmodifiable
+     */
+    private PyDictObj(List<KeyType> keys, List<ValType> vals) {
+        super(31 * keys.hashCode() + vals.hashCode(), fingerprintOf(keys, vals));
+        this.keys = keys;
+        this.vals = vals;
+    }
+
+    /**
+     * Helper function for computing the fingerprint of a dict from its keys and values.
+     *
+     * @param keys the keys of the dict, in ascending order
+     * @param vals the values of the dict, where the i-th value is mapped to by the i-th
+     *             key
+     * @return the fingerprint of the dict
+     */
+    private static long fingerprintOf(List<? extends APyObj> keys,
+        List<? extends APyObj> vals) {
+        long fingerprint = Fingerprints.start(TYPE_ORDER);
+        for (int idx = 0; idx < keys.size(); idx++) {
+            fingerprint = Fingerprints.combine(fingerprint, keys.get(idx).fingerprint());
+            fingerprint = Fingerprints.combine(fingerprint, vals.get(idx).fingerprint());
+        }
+        return Fingerprints.combine(fingerprint, keys.size());
+    }
+
+    /**
+     * Helper function for sorting the keys of a map.
+     *
+     * @param value the map whose keys are to be sorted
+     * @param <K>   the type of each key in the map
+     * @return an unmodifiable list of the keys of the map, in ascending order
+     */
+    private static <K extends APyObj> List<K> sortedKeys(Map<K, ?> value) {
+        List<K> keys = new ArrayList<>(value.keySet());
+        Collections.sort(keys);
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Helper function for looking up the value of each of a list of keys.
+     *
+     * @param keys  the keys to look up
+     * @param value the map in which to look them up
+     * @param <K>   the type of each key in the map
+     * @param <V>   the type of each value in the map
+     * @return an unmodifiable list whose i-th element is the value of the i-th key
+     */
+    private static <K, V> List<V> valsFor(List<K> keys, Map<K, V> value) {
+        List<V> vals = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            vals.add(value.get(key));
+        }
+        return List.copyOf(vals);
     }
 
     /**
-     * @return the underlying (Java Map) representation of this PyDictObj
+     * @return the underlying (unmodifiable Java Map) representation of this PyDictObj,
+     * which iterates over its (key, value) pairs in ascending order of their keys
      */
     @Override
     public Map<KeyType, ValType> getValue() {
@@ -33,27 +125,163 @@ public class PyDictObj<KeyType extends APyObj, ValType extends APyObj> extends A
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation (i.e., {key1: val1, key2: val2, ...}).
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
+
+    /**
+     * Compares this to another PyDictObj by value, lexicographically: (key, value) pair
+     * by pair, in ascending order of their keys, with a prefix being less than any
+     * larger dict that starts with it.
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        PyDictObj<?, ?> other = (PyDictObj<?, ?>) obj;
+        int length = Math.min(this.keys.size(), other.keys.size());
+        for (int idx = 0; idx < length; idx++) {
+            int byKey = this.keys.get(idx).compareTo(other.keys.get(idx));
+            if (byKey != 0) {
+                return byKey;
+            }
+            int byVal = this.vals.get(idx).compareTo(other.vals.get(idx));
+            if (byVal != 0) {
+                return byVal;
+            }
+        }
+        return Integer.compare(this.keys.size(), other.keys.size());
+    }
+
+    /**
+     * Compares this to the input object by value; since both dicts store their (key,
+     * value) pairs in ascending order of their keys, they are equal exactly when their
+     * lists of keys and of values are.
      *
-     * @return a string representation of this object
+     * @param obj the object to compare against
+     * @return true if this is equivalent by value to obj; false otherwise
      */
     @Override
-    public String toString() {
-        StringBuilder repr = new StringBuilder("{");
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PyDictObj) || this.hashCode() != obj.hashCode()) {
+            return false;
+        }
+        PyDictObj<?, ?> other = (PyDictObj<?, ?>) obj;
+        return this.keys.equals(other.keys) && this.vals.equals(other.vals);
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation (i.e., {key1: val1, key2: val2, ...}) to the input builder.
+     *
+     * @param repr the builder to which the representation is appended
+     */
+    @Override
+    public void appendRepr(StringBuilder repr) {
+        repr.append('{');
+        for (int idx = 0; idx < this.keys.size(); idx++) {
+            // Separate each (key, value) pair from the previous one
+            if (idx > 0) {
+                repr.append(", ");
+            }
+            this.keys.get(idx).appendRepr(repr);
+            repr.append(": ");
+            this.vals.get(idx).appendRepr(repr);
+        }
+        repr.append('}');
+    }
+
+    /**
+     * An unmodifiable Map view of the keys and values of this PyDictObj.
+     */
+    private class SortedView extends AbstractMap<KeyType, ValType> {
+
+        /**
+         * @return the number of (key, value) pairs
+         */
+        @Override
+        public int size() {
+            return PyDictObj.this.keys.size();
+        }
+
+        /**
+         * Finds the value mapped to by the input key, using a binary search.
+         *
+         * @param key the key to look up
+         * @return the value mapped to by key, or null if there is none
+         */
+        @Override
+        public ValType get(Object key) {
+            int idx = this.indexOf(key);
+            return (idx < 0) ? null : PyDictObj.this.vals.get(idx);
+        }
+
+        /**
+         * @param key the key to look up
+         * @return true if key is one of the keys; false otherwise
+         */
+        @Override
+        public boolean containsKey(Object key) {
+            return this.indexOf(key) >= 0;
+        }
+
+        /**
+         * @return a set view of the (key, value) pairs, in ascending order of their keys
+         */
+        @Override
+        public Set<Entry<KeyType, ValType>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return PyDictObj.this.keys.size();
+                }
+
+                @Override
+                public Iterator<Entry<KeyType, ValType>> iterator() {
+                    return new Iterator<>() {
+                        private int idx = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.idx < PyDictObj.this.keys.size();
+                        }
 
-        // Add all of the (key, value) pairs
-        for (Map.Entry<KeyType, ValType> entry : this.value.entrySet()) {
-            String key = entry.getKey().toString();
-            String val = entry.getValue().toString();
-            repr.append(key).append(": ").append(val).append(", ");
+                        @Override
+                        public Entry<KeyType, ValType> next() {
+                            if (!this.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<KeyType, ValType> entry = new SimpleImmutableEntry<>(
+                                PyDictObj.this.keys.get(this.idx),
+                                PyDictObj.this.vals.get(this.idx));
+                            this.idx++;
+                            return entry;
+                        }
+                    };
+                }
+            };
         }
 
-        // Remove last ", "
-        if (this.value.size() > 0) {
-            repr = new StringBuilder(repr.substring(0, repr.length() - 2));
+        /**
+         * Helper function for finding the position of a key.
+         *
+         * @param key the key to look up
+         * @return the index of key within the keys, or a negative number if it is not one
+         * of them
+         */
+        private int indexOf(Object key) {
+            if (!(key instanceof APyObj)) {
+                return -1;
+            }
+            return Collections.binarySearch(PyDictObj.this.keys, (APyObj) key);
         }
-        repr.append("}");
-        return repr.toString();
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,11 @@ package main.rice.obj;
  */
 public class PyFloatObj extends APyObj {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 2;
+
     /**
      * The value of this PyFloatObj.
      */
@@ -16,6 +21,8 @@ public class PyFloatObj extends APyObj {
      * @param value the value of this PyFloatObj
      */
     public PyFloatObj(Float value) {
+        super(value.hashCode(),
+            Fingerprints.ofScalar(TYPE_ORDER, Float.floatToIntBits(value)));
         this.value = value;
     }
 
@@ -28,13 +35,33 @@ public class PyFloatObj extends APyObj {
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation.
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
+
+    /**
+     * Compares this to another PyFloatObj by value (numerically).
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        return Float.compare(this.value, ((PyFloatObj) obj).value);
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation to the input builder.
      *
-     * @return a string representation of this object
+     * @param repr the builder to which the representation is appended
      */
     @Override
-    public String toString() {
-        return this.value.toString();
+    public void appendRepr(StringBuilder repr) {
+        repr.append(this.value.floatValue());
     }
 }
\ No newline at end of file
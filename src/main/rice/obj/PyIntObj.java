@@ -5,20 +5,64 @@ package main.rice.obj;
  */
 public class PyIntObj extends APyObj {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 1;
+
+    /**
+     * The smallest value whose PyIntObj is cached by valueOf().
+     */
+    public static final int CACHE_LOW = -128;
+
+    /**
+     * The largest value whose PyIntObj is cached by valueOf(); 1024 by default, but can
+     * be changed using the system property main.rice.obj.PyIntObj.cacheHigh.
+     */
+    public static final int CACHE_HIGH = Math.max(CACHE_LOW,
+        Integer.getInteger("main.rice.obj.PyIntObj.cacheHigh", 1024));
+
+    /**
+     * The shared PyIntObjs for the values from CACHE_LOW to CACHE_HIGH.
+     */
+    private static final PyIntObj[] CACHE = new PyIntObj[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int idx = 0; idx < CACHE.length; idx++) {
+            CACHE[idx] = new PyIntObj(CACHE_LOW + idx);
+        }
+    }
+
     /**
      * The value of this PyIntObj.
      */
-    private final Integer value;
+    private final int value;
 
     /**
-     * Constructor for a PyIntObj; initializes its value to the input.
+     * Constructor for a PyIntObj; initializes its value to the input. Prefer valueOf(),
+     * which shares the PyIntObjs for small values.
      *
      * @param value the value of this PyIntObj
      */
-    public PyIntObj(Integer value) {
+    public PyIntObj(int value) {
+        super(Integer.hashCode(value), Fingerprints.ofScalar(TYPE_ORDER, value));
         this.value = value;
     }
 
+    /**
+     * Returns a PyIntObj with the input value; the same PyIntObj is returned for every
+     * value from CACHE_LOW to CACHE_HIGH, while larger or smaller values get a new one.
+     *
+     * @param value the value of the PyIntObj
+     * @return a PyIntObj with the input value
+     */
+    public static PyIntObj valueOf(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[value - CACHE_LOW];
+        }
+        return new PyIntObj(value);
+    }
+
     /**
      * @return the underlying (Java Integer) representation of this PyIntObj
      */
@@ -28,13 +72,44 @@ public class PyIntObj extends APyObj {
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation.
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
+
+    /**
+     * Compares this to another PyIntObj by value (numerically).
+     *
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
+     */
+    @Override
+    protected int compareValue(APyObj obj) {
+        return Integer.compare(this.value, ((PyIntObj) obj).value);
+    }
+
+    /**
+     * Compares this to the input object by value, without boxing.
+     *
+     * @param obj the object to compare against
+     * @return true if obj is a PyIntObj with the same value; false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PyIntObj && ((PyIntObj) obj).value == this.value;
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation to the input builder.
      *
-     * @return a string representation of this object
+     * @param repr the builder to which the representation is appended
      */
     @Override
-    public String toString() {
-        return this.value.toString();
+    public void appendRepr(StringBuilder repr) {
+        repr.append(this.value);
     }
 }
\ No newline at end of file
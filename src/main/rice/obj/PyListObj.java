@@ -9,24 +9,39 @@ import java.util.List;
  */
 public class PyListObj<InnerType extends APyObj> extends AIterablePyObj<InnerType> {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 5;
+
     /**
      * Constructor for a PyListObj; initializes its value to the input.
      *
      * @param value the value of this PyListObj
      */
     public PyListObj(List<InnerType> value) {
-        this.value = value;
+        super(value, TYPE_ORDER);
+    }
+
+    /**
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation (i.e., [elem1, elem2, elem3, ...]).
+     * Appends a string representation of this object that mirrors the Python string
+     * representation (i.e., [elem1, elem2, elem3, ...]) to the input builder.
      *
-     * @return a string representation of this object
+     * @param repr the builder to which the representation is appended
      */
     @Override
-    public String toString() {
-        return this.getValue().toString();
+    public void appendRepr(StringBuilder repr) {
+        repr.append('[');
+        appendElems(repr, this.value);
+        repr.append(']');
     }
 
     /**
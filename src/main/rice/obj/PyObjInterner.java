@@ -0,0 +1,180 @@
+package main.rice.obj;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An optional, global intern table for PyObjs ("hash-consing"): when enabled, interning
+ * a PyObj returns the canonical instance that is equal to it (and of the same class), so
+ * that structurally equal values generated many times over (such as the inner tuples of
+ * a list of tuples) share a single object graph, and comparing them for equality stops
+ * at the first reference check.
+ *
+ * <p>The table only holds weak references to the canonical instances, so it never keeps
+ * a value alive; entries whose values have been garbage collected are removed the next
+ * time the table is used. The table is safe to use from multiple threads at once.
+ *
+ * <p>Interning is disabled by default, in which case intern() simply returns its input;
+ * it can be enabled using setEnabled() or the system property
+ * main.rice.obj.PyObjInterner.enabled.
+ */
+public final class PyObjInterner {
+
+    /**
+     * True if intern() returns canonical instances; false if it returns its input.
+     */
+    private static volatile boolean enabled =
+        Boolean.getBoolean("main.rice.obj.PyObjInterner.enabled");
+
+    /**
+     * The canonical instances, each wrapped in a weak reference that is used as both the
+     * key and the value of its entry.
+     */
+    private static final ConcurrentHashMap<WeakEntry, WeakEntry> TABLE =
+        new ConcurrentHashMap<>();
+
+    /**
+     * The queue to which the weak references are added once their values have been
+     * garbage collected.
+     */
+    private static final ReferenceQueue<APyObj> QUEUE = new ReferenceQueue<>();
+
+    /**
+     * Private constructor; this class only contains static methods.
+     */
+    private PyObjInterner() {
+    }
+
+    /**
+     * @return true if interning is enabled; false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables interning. Disabling it empties the table.
+     *
+     * @param enable true to enable interning; false to disable it
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+        if (!enable) {
+            TABLE.clear();
+        }
+    }
+
+    /**
+     * Returns the canonical instance that is equal to the input PyObj (and of the same
+     * class), making the input itself canonical if there is none yet. If interning is
+     * disabled, returns the input.
+     *
+     * @param obj the PyObj to be interned
+     * @param <T> the type of the PyObj
+     * @return the canonical instance equal to obj
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends APyObj> T intern(T obj) {
+        if (!enabled) {
+            return obj;
+        }
+        expungeCollected();
+
+        // Look up the input with an entry that isn't registered with the queue, since it
+        // is only inserted into the table if there is no canonical instance yet
+        WeakEntry probe = new WeakEntry(obj, null);
+        while (true) {
+            WeakEntry existing = TABLE.get(probe);
+            if (existing == null) {
+                WeakEntry entry = new WeakEntry(obj, QUEUE);
+                existing = TABLE.putIfAbsent(entry, entry);
+                if (existing == null) {
+                    return obj;
+                }
+            }
+            APyObj canonical = existing.get();
+            if (canonical != null) {
+                // The entry's equals() guarantees that canonical has the same class
+                return (T) canonical;
+            }
+
+            // The canonical instance was collected just now; replace it
+            TABLE.remove(existing, existing);
+        }
+    }
+
+    /**
+     * @return the number of canonical instances in the table (some of which may have
+     * been collected, but not yet removed)
+     */
+    public static int size() {
+        expungeCollected();
+        return TABLE.size();
+    }
+
+    /**
+     * Removes the entries whose canonical instances have been garbage collected.
+     */
+    private static void expungeCollected() {
+        Object collected;
+        while ((collected = QUEUE.poll()) != null) {
+            TABLE.remove(collected, collected);
+        }
+    }
+
+    /**
+     * A weak reference to a canonical instance, which is equal to any other WeakEntry
+     * whose value is equal to its own (and of the same class). Since the value may be
+     * collected at any time, the hash code is computed up front, and an entry whose value
+     * has been collected is only equal to itself.
+     */
+    private static final class WeakEntry extends WeakReference<APyObj> {
+
+        /**
+         * The hash code of the value.
+         */
+        private final int hash;
+
+        /**
+         * Constructor for a WeakEntry.
+         *
+         * @param obj   the value
+         * @param queue the queue to which this entry is added once its value is
+         *              collected, or null if it should not be added to any queue
+         */
+        private WeakEntry(APyObj obj, ReferenceQueue<APyObj> queue) {
+            super(obj, queue);
+            this.hash = obj.hashCode();
+        }
+
+        /**
+         * @return the hash code of the value
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * Compares the values of this and the input entry.
+         *
+         * @param obj the object to compare against
+         * @return true if obj is this entry, or is an entry whose value is equal to (and
+         * of the same class as) the value of this entry; false otherwise
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WeakEntry) || this.hash != ((WeakEntry) obj).hash) {
+                return false;
+            }
+            APyObj value = this.get();
+            APyObj other = ((WeakEntry) obj).get();
+            return value != null && other != null && value.getClass() == other.getClass()
+                && value.equals(other);
+        }
+    }
+}
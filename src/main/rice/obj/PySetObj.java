@@ -3,82 +3,92 @@ package main.rice.obj;
 import java.util.*;
 
 /**
- * A representation of Python objects of type set.
+ * A representation of Python objects of type set. The elements are stored in ascending
+ * order, so that equal sets have identical internal representations (and string
+ * representations).
  *
  * @param <InnerType> the type of each element in this set
  */
 public class PySetObj<InnerType extends APyObj> extends AIterablePyObj<InnerType> {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 7;
+
     /**
      * Constructor for a PySetObj; initializes its value to a list containing the contents
-     * of the input set.
+     * of the input set, in ascending order.
      *
      * @param value a set whose contents will become the value of this PySetObj
      */
     public PySetObj(Set<InnerType> value) {
-        this.value = new ArrayList<>(value);
+        this(sorted(value));
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation (i.e., {elem1, elem2, elem3, ...})).
+     * Constructor for a PySetObj; initializes its value to the input list.
      *
-     * @return a string representation of this object
+     * @param sorted the (distinct) elements of this PySetObj, in ascending order; must
+     *               be unmodifiable
      */
-    @Override
-    public String toString() {
-        // Special case for an empty set
-        if (this.value.size() == 0) {
-            return "set()";
-        }
+    private PySetObj(List<InnerType> sorted) {
+        super(sorted, sorted.hashCode(), Fingerprints.ofElements(TYPE_ORDER, sorted));
+    }
 
-        StringBuilder repr = new StringBuilder("{");
+    /**
+     * Helper function for sorting the elements of a set.
+     *
+     * @param value the set to be sorted
+     * @param <T>   the type of each element in the set
+     * @return an unmodifiable list containing the elements of the set, in ascending order
+     */
+    private static <T extends APyObj> List<T> sorted(Set<T> value) {
+        List<T> elems = new ArrayList<>(value);
+        Collections.sort(elems);
+        return List.copyOf(elems);
+    }
 
-        // Add all of the elements
-        for (InnerType elem : this.value) {
-            repr.append(elem).append(", ");
-        }
+    /**
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
 
-        // Remove last ", "
-        if (this.value.size() > 0) {
-            repr = new StringBuilder(repr.substring(0, repr.length() - 2));
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation (i.e., {elem1, elem2, elem3, ...}) to the input builder.
+     *
+     * @param repr the builder to which the representation is appended
+     */
+    @Override
+    public void appendRepr(StringBuilder repr) {
+        // Special case for an empty set
+        if (this.value.isEmpty()) {
+            repr.append("set()");
+            return;
         }
-        repr.append("}");
-        return repr.toString();
+        repr.append('{');
+        appendElems(repr, this.value);
+        repr.append('}');
     }
 
     /**
-     * Compares this to the input object by value, ensuring that the two inner lists
-     * contain identical sets of elements (order doesn't matter).
+     * Compares this to the input object by value; a wrapper around the implementation in
+     * the superclass (APyObj) that first checks that obj is a PySetObj. Since both sets
+     * store their elements in ascending order, they contain the same elements exactly
+     * when their inner lists are equal.
      *
      * @param obj the object to compare against
      * @return true if this is equivalent by value to obj; false otherwise
      */
     @Override
     public boolean equals(Object obj) {
-        // If obj is the wrong type, it's not equivalent
         if (!(obj instanceof PySetObj)) {
             return false;
         }
-
-        // Get each object's internal representation and convert it to a set
-        Set<InnerType> thisValue = new HashSet<>(this.getValue());
-        Set<?> otherValue = new HashSet<>(((PySetObj<?>) obj).getValue());
-        return thisValue.equals(otherValue);
-    }
-
-    /**
-     * Computes a hash code based on this object's value, such that two objects that are
-     * considered equal by .equals() will also have the same hash code. Need to override
-     * the superclass method (in APyObj) to ensure that order doesn't matter (it would by
-     * the superclass method, since sets are represented internally as lists to allow for
-     * shared work in AIterablePyObj).
-     *
-     * @return the hash code for this object
-     */
-    @Override
-    public int hashCode() {
-        Set<InnerType> thisValue = new HashSet<>(this.getValue());
-        return thisValue.hashCode();
+        return super.equals(obj);
     }
 }
\ No newline at end of file
@@ -1,49 +1,160 @@
 package main.rice.obj;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * A representation of Python objects of type string.
+ * A representation of Python objects of type string. The characters are stored in a
+ * (Java) String; the list of PyCharObjs returned by getValue() is a view of that String,
+ * which hands out the shared PyCharObj for each character rather than storing any.
  */
 public class PyStringObj extends AIterablePyObj<PyCharObj> {
 
     /**
-     * Constructor for a PySetObj; initializes its value to a list containing each
-     * character in the input String.
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 4;
+
+    /**
+     * The characters of this PyStringObj.
+     */
+    private final String str;
+
+    /**
+     * Constructor for a PyStringObj; initializes its value to the characters in the input
+     * String.
      *
-     * @param value the sequence of characters representing the value of this PySetObj
+     * @param value the sequence of characters representing the value of this PyStringObj
      */
     public PyStringObj(String value) {
-        this.value = new ArrayList<>();
+        super(new CharView(value), value.hashCode(), fingerprintOf(value));
+        this.str = value;
+    }
+
+    /**
+     * Constructor for a PyStringObj; initializes its value to the input characters.
+     *
+     * @param value the value of this PyStringObj
+     */
+    public PyStringObj(List<PyCharObj> value) {
+        this(toString(value));
+    }
+
+    /**
+     * Helper function for converting a list of PyCharObjs into a String.
+     *
+     * @param value the list to be converted
+     * @return a String containing the character of each PyCharObj in the input list
+     */
+    private static String toString(List<PyCharObj> value) {
+        StringBuilder sb = new StringBuilder(value.size());
+        for (PyCharObj character : value) {
+            sb.append(character.getValue().charValue());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Helper function for computing the fingerprint of a string from its characters.
+     *
+     * @param value the characters of the string
+     * @return the fingerprint of the string
+     */
+    private static long fingerprintOf(String value) {
+        long fingerprint = Fingerprints.start(TYPE_ORDER);
         for (int idx = 0; idx < value.length(); idx++) {
-            this.value.add(new PyCharObj(value.charAt(idx)));
+            fingerprint = Fingerprints.combine(fingerprint, value.charAt(idx));
         }
+        return Fingerprints.combine(fingerprint, value.length());
+    }
+
+    /**
+     * @return the characters of this PyStringObj, as a (Java) String
+     */
+    public String getString() {
+        return this.str;
+    }
+
+    /**
+     * @return the position of this object's type in the order of types
+     */
+    @Override
+    protected int typeOrder() {
+        return TYPE_ORDER;
     }
 
     /**
-     * Constructor for a PySetObj; initializes its value to the input.
+     * Compares this to another PyStringObj by value, lexicographically (character by
+     * character, with a prefix being less than any longer string that starts with it).
      *
-     * @param value the value of this PySetObj
+     * @param obj the object to compare against
+     * @return a negative number, zero, or a positive number if this is less than, equal
+     * to, or greater than obj
      */
-    public PyStringObj(List<PyCharObj> value) {
-        this.value = value;
+    @Override
+    protected int compareValue(APyObj obj) {
+        return this.str.compareTo(((PyStringObj) obj).str);
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation; uses single quotes for compatibility with command-line
-     * invocation of Python scripts.
+     * Compares this to the input object by value, by comparing the underlying Strings.
      *
-     * @return a string representation of this object
+     * @param obj the object to compare against
+     * @return true if obj is a PyStringObj with the same characters; false otherwise
      */
     @Override
-    public String toString() {
-        // Concatenate all characters within this.value to get a single string
-        StringBuilder sb = new StringBuilder();
-        for (PyCharObj character : this.value) {
-            sb.append(character.getValue());
+    public boolean equals(Object obj) {
+        return obj instanceof PyStringObj && this.str.equals(((PyStringObj) obj).str);
+    }
+
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation to the input builder; uses single quotes for compatibility with
+     * command-line invocation of Python scripts.
+     *
+     * @param repr the builder to which the representation is appended
+     */
+    @Override
+    public void appendRepr(StringBuilder repr) {
+        repr.append('\'').append(this.str).append('\'');
+    }
+
+    /**
+     * An unmodifiable list view of the characters of a String, as PyCharObjs.
+     */
+    private static final class CharView extends AbstractList<PyCharObj>
+        implements RandomAccess {
+
+        /**
+         * The String being viewed.
+         */
+        private final String str;
+
+        /**
+         * Constructor for a CharView.
+         *
+         * @param str the String to be viewed
+         */
+        private CharView(String str) {
+            this.str = str;
+        }
+
+        /**
+         * @param index the index of the character
+         * @return the (shared) PyCharObj for the index-th character
+         */
+        @Override
+        public PyCharObj get(int index) {
+            return PyCharObj.valueOf(this.str.charAt(index));
+        }
+
+        /**
+         * @return the number of characters
+         */
+        @Override
+        public int size() {
+            return this.str.length();
         }
-        return "'" + sb.toString() + "'";
     }
-}
\ No newline at end of file
+}
@@ -9,38 +9,44 @@ import java.util.List;
  */
 public class PyTupleObj<InnerType extends APyObj> extends AIterablePyObj<InnerType> {
 
+    /**
+     * The position of this type in the order of types (see APyObj).
+     */
+    private static final int TYPE_ORDER = 6;
+
     /**
      * Constructor for a PyTupleObj; initializes its value to the input.
      *
      * @param value the value of this PyListObj
      */
     public PyTupleObj(List<InnerType> value) {
-        this.value = value;
+        super(value, TYPE_ORDER);
     }
 
     /**
-     * Builds and returns a string representation of this object that mirrors the Python
-     * string representation (i.e., (elem1, elem2, elem3, ...)).
-     *
-     * @return a string representation of this object
+     * @return the position of this object's type in the order of types
      */
     @Override
-    public String toString() {
-        StringBuilder repr = new StringBuilder("(");
+    protected int typeOrder() {
+        return TYPE_ORDER;
+    }
 
-        // Add all of the elements
-        for (InnerType elem : this.value) {
-            repr.append(elem).append(", ");
-        }
+    /**
+     * Appends a string representation of this object that mirrors the Python string
+     * representation (i.e., (elem1, elem2, elem3, ...)) to the input builder.
+     *
+     * @param repr the builder to which the representation is appended
+     */
+    @Override
+    public void appendRepr(StringBuilder repr) {
+        repr.append('(');
+        appendElems(repr, this.value);
 
-        // Remove last ", " if length is greater than 1; otherwise just remove last " "
-        if (this.value.size() > 1) {
-            repr = new StringBuilder(repr.substring(0, repr.length() - 2));
-        } else if (this.value.size() == 1) {
-            repr = new StringBuilder(repr.substring(0, repr.length() - 1));
+        // A tuple of length 1 needs a trailing comma to distinguish it from parentheses
+        if (this.value.size() == 1) {
+            repr.append(',');
         }
-        repr.append(")");
-        return repr.toString();
+        repr.append(')');
     }
 
     /**
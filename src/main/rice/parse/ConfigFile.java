@@ -3,6 +3,7 @@ package main.rice.parse;
 import main.rice.node.APyNode;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * This class represents the contents of a single config file
@@ -25,17 +26,58 @@ public class ConfigFile {
     int numRand;
 
     /**
-     * Constructor for a ConfigFile object, which takes in three pieces of data.
+     * Seed from which the random test cases are generated
+     */
+    long seed;
+
+    /**
+     * Strength of the covering array used for the exhaustive test cases, or 0 if every
+     * combination of arguments is used
+     */
+    int strength;
+
+    /**
+     * Constructor for a ConfigFile object, which takes in three pieces of data. Since
+     * no seed is given, a random one is selected.
      * @param funcName the name of the function under test
      * @param nodes a list of Python nodes to serve as generators for test cases
      *              for the function under test
      * @param numRand number of random test cases to be generated
      */
     public ConfigFile(String funcName, List<APyNode<?>> nodes, int numRand) {
+        this(funcName, nodes, numRand, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor for a ConfigFile object, which takes in four pieces of data.
+     * @param funcName the name of the function under test
+     * @param nodes a list of Python nodes to serve as generators for test cases
+     *              for the function under test
+     * @param numRand number of random test cases to be generated
+     * @param seed seed from which the random test cases are generated
+     */
+    public ConfigFile(String funcName, List<APyNode<?>> nodes, int numRand, long seed) {
+        this(funcName, nodes, numRand, seed, 0);
+    }
+
+    /**
+     * Constructor for a ConfigFile object, which takes in five pieces of data.
+     * @param funcName the name of the function under test
+     * @param nodes a list of Python nodes to serve as generators for test cases
+     *              for the function under test
+     * @param numRand number of random test cases to be generated
+     * @param seed seed from which the random test cases are generated
+     * @param strength strength of the covering array used for the exhaustive test
+     *                 cases, or 0 to use every combination of arguments
+     */
+    public ConfigFile(String funcName, List<APyNode<?>> nodes, int numRand, long seed,
+        int strength) {
 
         this.funcName = funcName;
         this.nodes = nodes;
         this.numRand = numRand;
+        this.seed = seed;
+        this.strength = strength;
 
     }
 
@@ -62,4 +104,21 @@ public class ConfigFile {
     public int getNumRand() {
         return this.numRand;
     }
+
+    /**
+     * Getter method for the seed from which the random test cases are generated
+     * @return the seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Getter method for the strength of the covering array used for the exhaustive test
+     * cases
+     * @return the strength, or 0 if every combination of arguments is used
+     */
+    public int getStrength() {
+        return this.strength;
+    }
 }
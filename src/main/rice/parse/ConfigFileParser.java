@@ -6,7 +6,6 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.IntStream;
-import java.util.stream.LongStream;
 
 import main.rice.node.*;
 import org.json.*;
@@ -48,6 +47,8 @@ public class ConfigFileParser {
 
         List<APyNode<?>> retNodes = new ArrayList<>();
         int numRan = -1;
+        Long seed = null;
+        int strength = 0;
         String funcName = "";
         boolean fileIsValid = true;
         JSONArray typeArr = new JSONArray();
@@ -69,9 +70,18 @@ public class ConfigFileParser {
              keyList.add(curKey);
         }
 
-        if(keyList.size() != 5) {
+        // The seed and the strength are the only optional keys
+        int numRequired = 5;
+        if(keyList.contains("seed")) {
+            numRequired++;
+        }
+        if(keyList.contains("strength")) {
+            numRequired++;
+        }
+        if(keyList.size() != numRequired) {
             fileIsValid = false;
-            throw new InvalidConfigException(keyList.size() + " keys given. 5 Required");
+            throw new InvalidConfigException(keyList.size() + " keys given. "
+                + numRequired + " Required");
         }
 
         for(String curKey: keyList) {
@@ -136,6 +146,30 @@ public class ConfigFileParser {
 
                     break;
 
+                case "seed":
+                    if(jObj.get(curKey) instanceof Integer
+                            || jObj.get(curKey) instanceof Long) {
+                        seed = ((Number)jObj.get(curKey)).longValue();
+                    }
+                    else {
+                        throw new InvalidConfigException("seed not a valid integer");
+                    }
+
+                    break;
+
+                case "strength":
+                    // Only pairwise and 3-wise covering arrays are supported
+                    if(jObj.get(curKey) instanceof Integer
+                            && ((Integer)jObj.get(curKey) == 2
+                            || (Integer)jObj.get(curKey) == 3)) {
+                        strength = (Integer)jObj.get(curKey);
+                    }
+                    else {
+                        throw new InvalidConfigException("strength must be 2 or 3");
+                    }
+
+                    break;
+
                 default:
                     fileIsValid = false;
                     throw new InvalidConfigException("Invalid key");
@@ -247,7 +281,10 @@ public class ConfigFileParser {
         }
 
         if(fileIsValid) {
-            return new ConfigFile(funcName, retNodes, numRan);
+            if(seed == null) {
+                seed = new SplittableRandom().nextLong();
+            }
+            return new ConfigFile(funcName, retNodes, numRan, seed, strength);
         }
         else {
             throw new InvalidConfigException("File is invalid");
@@ -377,7 +414,7 @@ public class ConfigFileParser {
 
     }
 
-    private List<Number> parseDomain(String domStr, String type) throws
+    private Domain parseDomain(String domStr, String type) throws
         InvalidConfigException {
         List<Number> numList = new ArrayList<>();
         type = type.replaceAll(" ", "");
@@ -411,25 +448,18 @@ public class ConfigFileParser {
 
             }
 
-            if(type.equals("float")) {
-                long[] longArr = LongStream.rangeClosed(Long.parseLong(tokens[0]),
-                    Long.parseLong(tokens[1])).toArray();
-                for(long curLong : longArr) {
-                    numList.add((float)curLong);
-                }
-            }
-            else {
-
-                if(tokens[0].contains(".") || tokens[1].contains(".")) {
-                    throw new InvalidConfigException("Float given for integer domain");
+            //ranges are stored by their bounds, rather than expanded into a list
+            try {
+                if(type.equals("float")) {
+                    return Domain.floatRange(tokeZero, tokeOne);
                 }
-                int[] intArr = IntStream.rangeClosed(Integer.parseInt(tokens[0]),
-                    Integer.parseInt(tokens[1])).toArray();
-
-                for(int curInt : intArr) {
-                    numList.add(curInt);
+                else {
+                    return Domain.range(tokeZero, tokeOne);
                 }
             }
+            catch(IllegalArgumentException e) {
+                throw new InvalidConfigException("Range too large");
+            }
         }
         else {
             domStr = domStr.replaceAll("\\[", "");
@@ -457,19 +487,22 @@ public class ConfigFileParser {
                 }
             }
             else {
-                for(String curNum : numArr) {
-                    curNum = curNum.replaceAll(" ", "");
+                //remove duplicates, keeping the first occurrence of each int
+                int[] intArr = new int[numArr.length];
+                for(int i = 0; i < numArr.length; i++) {
+                    String curNum = numArr[i].replaceAll(" ", "");
                     if(curNum.contains(".")) {
                         throw new InvalidConfigException("Float given for int domain");
                     }
-                    numList.add(Integer.parseInt(curNum));
+                    intArr[i] = Integer.parseInt(curNum);
                 }
+                return Domain.of(IntStream.of(intArr).distinct().toArray());
             }
         }
 
         HashSet<Number> noDuplicates = new HashSet<>(numList);
 
-        return new ArrayList<>(noDuplicates);
+        return Domain.of(new ArrayList<>(noDuplicates));
     }
 
     /**
@@ -0,0 +1,222 @@
+package main.rice.test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A compact representation of which test cases caught which files. Stores one bitset
+ * (an array of longs) per test case, where bit j is set if the test case caught the j-th
+ * file, along with the transposed bitset per file, so that both directions can be
+ * queried (and counted, using popcount) without boxing any integers.
+ */
+public class CoverageMatrix {
+
+    /**
+     * The number of test cases (rows)
+     */
+    private final int numCases;
+
+    /**
+     * The number of files (columns)
+     */
+    private final int numFiles;
+
+    /**
+     * The per-case bitsets, where bit j of the i-th row is set if the i-th test case
+     * caught the j-th file
+     */
+    private final long[][] caseToFiles;
+
+    /**
+     * The per-file bitsets, where bit i of the j-th row is set if the j-th file was
+     * caught by the i-th test case
+     */
+    private final long[][] fileToCases;
+
+    /**
+     * Constructor for a CoverageMatrix in which no test case has caught any file.
+     *
+     * @param numCases the number of test cases
+     * @param numFiles the number of files
+     */
+    public CoverageMatrix(int numCases, int numFiles) {
+        this.numCases = numCases;
+        this.numFiles = numFiles;
+        this.caseToFiles = new long[numCases][numWords(numFiles)];
+        this.fileToCases = new long[numFiles][numWords(numCases)];
+    }
+
+    /**
+     * Returns the number of longs needed to store a bitset of the given size.
+     *
+     * @param numBits the number of bits in the bitset
+     * @return the number of longs needed to store the bitset
+     */
+    public static int numWords(int numBits) {
+        return (numBits + 63) >>> 6;
+    }
+
+    /**
+     * @return the number of test cases
+     */
+    public int getNumCases() {
+        return this.numCases;
+    }
+
+    /**
+     * @return the number of files
+     */
+    public int getNumFiles() {
+        return this.numFiles;
+    }
+
+    /**
+     * Records that a test case caught a file. May be called from multiple threads at
+     * once, but not while the matrix is being read.
+     *
+     * @param caseIndex the index of the test case
+     * @param fileIndex the index of the file
+     */
+    public synchronized void set(int caseIndex, int fileIndex) {
+        this.caseToFiles[caseIndex][fileIndex >>> 6] |= 1L << fileIndex;
+        this.fileToCases[fileIndex][caseIndex >>> 6] |= 1L << caseIndex;
+    }
+
+    /**
+     * Determines whether a test case caught a file.
+     *
+     * @param caseIndex the index of the test case
+     * @param fileIndex the index of the file
+     * @return true if the test case caught the file; false otherwise
+     */
+    public boolean get(int caseIndex, int fileIndex) {
+        return (this.caseToFiles[caseIndex][fileIndex >>> 6] & (1L << fileIndex)) != 0;
+    }
+
+    /**
+     * Counts the files caught by a test case.
+     *
+     * @param caseIndex the index of the test case
+     * @return the number of files caught by the test case
+     */
+    public int countFiles(int caseIndex) {
+        int count = 0;
+        for (long word : this.caseToFiles[caseIndex]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the files caught by a test case that are also within the given bitset of
+     * files.
+     *
+     * @param caseIndex the index of the test case
+     * @param fileMask  a bitset of files, of length numWords(getNumFiles())
+     * @return the number of files caught by the test case that are within fileMask
+     */
+    public int countFiles(int caseIndex, long[] fileMask) {
+        long[] row = this.caseToFiles[caseIndex];
+        int count = 0;
+        for (int i = 0; i < row.length; i++) {
+            count += Long.bitCount(row[i] & fileMask[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the test cases that caught a file.
+     *
+     * @param fileIndex the index of the file
+     * @return the number of test cases that caught the file
+     */
+    public int countCases(int fileIndex) {
+        int count = 0;
+        for (long word : this.fileToCases[fileIndex]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of the bitset of files caught by a test case.
+     *
+     * @param caseIndex the index of the test case
+     * @return a bitset where bit j is set if the test case caught the j-th file
+     */
+    public long[] getFileBits(int caseIndex) {
+        return this.caseToFiles[caseIndex].clone();
+    }
+
+    /**
+     * Returns a copy of the bitset of test cases that caught a file.
+     *
+     * @param fileIndex the index of the file
+     * @return a bitset where bit i is set if the i-th test case caught the file
+     */
+    public long[] getCaseBits(int fileIndex) {
+        return this.fileToCases[fileIndex].clone();
+    }
+
+    /**
+     * Returns the bitset of files caught by at least one test case.
+     *
+     * @return a bitset where bit j is set if any test case caught the j-th file
+     */
+    public long[] getWrongBits() {
+        long[] wrong = new long[numWords(this.numFiles)];
+        for (int fileIndex = 0; fileIndex < this.numFiles; fileIndex++) {
+            if (this.countCases(fileIndex) > 0) {
+                wrong[fileIndex >>> 6] |= 1L << fileIndex;
+            }
+        }
+        return wrong;
+    }
+
+    /**
+     * Returns the set of files caught by a test case.
+     *
+     * @param caseIndex the index of the test case
+     * @return the set of indices of the files caught by the test case
+     */
+    public Set<Integer> getFiles(int caseIndex) {
+        return toSet(this.caseToFiles[caseIndex]);
+    }
+
+    /**
+     * Returns the set of test cases that caught a file.
+     *
+     * @param fileIndex the index of the file
+     * @return the set of indices of the test cases that caught the file
+     */
+    public Set<Integer> getCases(int fileIndex) {
+        return toSet(this.fileToCases[fileIndex]);
+    }
+
+    /**
+     * Returns the set of files caught by at least one test case.
+     *
+     * @return the set of indices of the files caught by at least one test case
+     */
+    public Set<Integer> getWrongSet() {
+        return toSet(this.getWrongBits());
+    }
+
+    /**
+     * Converts a bitset into a set of the indices of its set bits.
+     *
+     * @param bits the bitset to be converted
+     * @return the set of indices of the set bits
+     */
+    private static Set<Integer> toSet(long[] bits) {
+        Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                set.add((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,396 @@
+package main.rice.test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * A pool of long-lived Python worker processes. Rather than starting a new interpreter
+ * for every test, each worker loads the reference solution, the expected results, and
+ * the implementations under test once, and then executes test requests that are sent to
+ * it over stdin. Requests and responses are framed as a line containing a byte count,
+ * followed by that many bytes of UTF-8 text; a request begins with a line containing the
+ * number of frames that make it up. A worker that runs out of time on a request is
+ * killed, and restarted for the next one.
+ */
+public class PyWorkerPool implements AutoCloseable {
+
+    /**
+     * The name of the worker file that is created within the pool's directory
+     */
+    public static final String WORKER_NAME = "worker.py";
+
+    /**
+     * The workers that are not currently executing a request
+     */
+    private BlockingQueue<Worker> idle;
+
+    /**
+     * All workers belonging to this pool
+     */
+    private List<Worker> workers;
+
+    /**
+     * The timer used to kill workers that run out of time
+     */
+    private ScheduledExecutorService timer;
+
+    /**
+     * Constructor for a PyWorkerPool; creates the worker file within the given directory
+     * and initializes (but does not yet start) the given number of workers. Because the
+     * directory containing the worker file is placed on the Python path, the workers can
+     * import any module within it by name.
+     *
+     * @param dirPath the absolute path to the directory in which the workers will run
+     * @param size    the number of workers in the pool
+     * @throws IOException if the worker file cannot be created
+     */
+    public PyWorkerPool(String dirPath, int size) throws IOException {
+        String workerPath = dirPath + "/" + WORKER_NAME;
+        createWorkerFile(workerPath);
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workers = new ArrayList<>();
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Worker worker = new Worker(List.of("py", workerPath), this.timer);
+            this.workers.add(worker);
+            this.idle.add(worker);
+        }
+    }
+
+    /**
+     * Runs a single test case on the reference solution, returning everything that the
+     * equivalent command-line invocation of the solution would have printed to stdout.
+     *
+     * @param solutionPath  the absolute path to the reference solution
+     * @param funcName      the name of the function under test
+     * @param args          the string representations of the arguments to the function
+     * @param timeoutMillis the time budget (in milliseconds) for the test case, or 0 if
+     *                      it is unlimited
+     * @return the output of running the test case on the solution, or the empty string
+     * if it ran out of time
+     * @throws IOException if a worker cannot be started
+     */
+    public String runExpected(String solutionPath, String funcName, List<String> args,
+        long timeoutMillis) throws IOException {
+        List<String> request = new ArrayList<>(List.of("expected", solutionPath, funcName));
+        request.addAll(args);
+        return this.submit(request, timeoutMillis);
+    }
+
+    /**
+     * Runs a single test case on an implementation under test, returning everything that
+     * the equivalent command-line invocation of the wrapper would have printed to stdout.
+     *
+     * @param testIndex     the index of the test case, used to look up the expected
+     *                      result
+     * @param filename      the name of the implementation being tested
+     * @param funcName      the name of the function under test
+     * @param args          the string representations of the arguments to the function
+     * @param timeoutMillis the time budget (in milliseconds) for the test case, or 0 if
+     *                      it is unlimited
+     * @return the output of running the test case on the implementation, or the empty
+     * string if it ran out of time
+     * @throws IOException if a worker cannot be started
+     */
+    public String runTest(int testIndex, String filename, String funcName,
+        List<String> args, long timeoutMillis) throws IOException {
+        List<String> request = new ArrayList<>(
+            List.of("test", String.valueOf(testIndex), filename, funcName));
+        request.addAll(args);
+        return this.submit(request, timeoutMillis);
+    }
+
+    /**
+     * Stops all of the workers in this pool.
+     */
+    @Override
+    public void close() {
+        for (Worker worker : this.workers) {
+            worker.stop();
+        }
+        this.timer.shutdownNow();
+    }
+
+    /**
+     * Forcibly kills the given process along with all of its descendants (for instance,
+     * the interpreter started by the py launcher).
+     *
+     * @param process the process to be killed
+     */
+    static void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    /**
+     * Sends a single request to the next available worker, waiting for one to become
+     * available if necessary.
+     *
+     * @param request       the frames comprising the request
+     * @param timeoutMillis the time budget (in milliseconds) for the request, or 0 if it
+     *                      is unlimited
+     * @return the response of the worker
+     * @throws IOException if the worker cannot be started
+     */
+    private String submit(List<String> request, long timeoutMillis) throws IOException {
+        Worker worker;
+        try {
+            worker = this.idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a worker");
+        }
+
+        try {
+            return worker.request(request, timeoutMillis);
+        } finally {
+            this.idle.add(worker);
+        }
+    }
+
+    /**
+     * Creates the worker file, which reads requests from stdin, runs each one with stdout
+     * redirected so that the output of the function under test can't corrupt the
+     * protocol, and then writes the captured output back as the response.
+     *
+     * @param workerPath the absolute path of the worker file to be created
+     * @throws IOException if the worker file cannot be created
+     */
+    private static void createWorkerFile(String workerPath) throws IOException {
+        StringBuilder sb = new StringBuilder();
+
+        // Import the modules we'll need
+        sb.append("import contextlib\nimport importlib.util\nimport io\nimport os\n" +
+            "import sys\n\n");
+
+        // Functions for reading and writing frames
+        sb.append("def read_frame(stream):\n");
+        sb.append("    header = stream.readline()\n");
+        sb.append("    if not header:\n");
+        sb.append("        return None\n");
+        sb.append("    return stream.read(int(header)).decode('utf-8')\n\n");
+        sb.append("def read_request(stream):\n");
+        sb.append("    header = stream.readline()\n");
+        sb.append("    if not header:\n");
+        sb.append("        return None\n");
+        sb.append("    return [read_frame(stream) for _ in range(int(header))]\n\n");
+        sb.append("def write_frame(stream, text):\n");
+        sb.append("    data = text.encode('utf-8', 'replace')\n");
+        sb.append("    stream.write(str(len(data)).encode('ascii') + b'\\n' + data)\n");
+        sb.append("    stream.flush()\n\n");
+
+        // Each request runs in a freshly executed module, as it would in a new process,
+        // so no state is carried between tests; the loader still reuses cached bytecode
+        sb.append("def load_module(name, path):\n");
+        sb.append("    spec = importlib.util.spec_from_file_location(name, path)\n");
+        sb.append("    mod = importlib.util.module_from_spec(spec)\n");
+        sb.append("    sys.modules[name] = mod\n");
+        sb.append("    spec.loader.exec_module(mod)\n");
+        sb.append("    return mod\n\n");
+
+        // Equivalent to the footer appended to the solution, which is loaded by path
+        // since it needn't live in this directory
+        sb.append("def run_expected(sol_path, fname, args):\n");
+        sb.append("    func = getattr(load_module('solution', sol_path), fname)\n");
+        sb.append("    args = [eval(arg) for arg in args]\n");
+        sb.append("    print (func(*args))\n\n");
+
+        // Equivalent to the wrapper, which imports the implementation from this directory
+        sb.append("def run_test(case_num, impl_name, fname, args):\n");
+        sb.append("    from expected import results\n");
+        sb.append("    path = os.path.join(os.path.dirname(os.path.abspath(__file__)), " +
+            "impl_name)\n");
+        sb.append("    func = getattr(load_module(impl_name[:-3], path), fname)\n");
+        sb.append("    args = [eval(arg) for arg in args]\n");
+        sb.append("    actual = func(*args)\n");
+        sb.append("    expected = results[int(case_num)]\n");
+        sb.append("    print (actual == expected)\n\n");
+
+        // Main loop, which runs until stdin is closed
+        sb.append("if __name__ == \"__main__\":\n");
+        sb.append("    requests = sys.stdin.buffer\n");
+        sb.append("    responses = sys.stdout.buffer\n");
+        sb.append("    while True:\n");
+        sb.append("        request = read_request(requests)\n");
+        sb.append("        if request is None:\n");
+        sb.append("            break\n");
+        sb.append("        output = io.StringIO()\n");
+        sb.append("        sys.stdin = io.StringIO()\n");
+        sb.append("        try:\n");
+        sb.append("            with contextlib.redirect_stdout(output):\n");
+        sb.append("                if request[0] == 'expected':\n");
+        sb.append("                    run_expected(request[1], request[2], request[3:])\n");
+        sb.append("                else:\n");
+        sb.append("                    run_test(request[1], request[2], request[3], " +
+            "request[4:])\n");
+        sb.append("        except BaseException:\n");
+        sb.append("            pass\n");
+        sb.append("        write_frame(responses, output.getvalue())");
+        String workerContents = sb.toString();
+
+        // Create the Python worker file including the above code
+        FileWriter writer = new FileWriter(workerPath);
+        writer.write(workerContents);
+        writer.close();
+    }
+
+    /**
+     * A single long-lived Python process, which is started on its first request and
+     * restarted if it dies.
+     */
+    private static class Worker {
+
+        /**
+         * The command used to start the process
+         */
+        private List<String> command;
+
+        /**
+         * The running process, or null if it has not been started (or has died)
+         */
+        private Process process;
+
+        /**
+         * The stream for sending requests to the process
+         */
+        private OutputStream toWorker;
+
+        /**
+         * The stream for reading responses from the process
+         */
+        private InputStream fromWorker;
+
+        /**
+         * The timer used to kill the process if it runs out of time
+         */
+        private ScheduledExecutorService timer;
+
+        /**
+         * Constructor for a Worker; stores the command used to start its process.
+         *
+         * @param command the command used to start the process
+         * @param timer   the timer used to kill the process if it runs out of time
+         */
+        Worker(List<String> command, ScheduledExecutorService timer) {
+            this.command = command;
+            this.timer = timer;
+        }
+
+        /**
+         * Sends a request to the process and waits for its response. If the process dies
+         * while handling the request (including by running out of time), the response is
+         * empty (just as the output of a crashed test is) and the process will be
+         * restarted on the next request.
+         *
+         * @param request       the frames comprising the request
+         * @param timeoutMillis the time budget (in milliseconds) for the request, or 0 if
+         *                      it is unlimited
+         * @return the response of the process
+         * @throws IOException if the process cannot be started
+         */
+        String request(List<String> request, long timeoutMillis) throws IOException {
+            if (this.process == null) {
+                this.start();
+            }
+
+            // Kill the process if it doesn't respond in time, which will end the read
+            ScheduledFuture<?> deadline = null;
+            if (timeoutMillis > 0) {
+                Process running = this.process;
+                deadline = this.timer.schedule(() -> destroyTree(running), timeoutMillis,
+                    TimeUnit.MILLISECONDS);
+            }
+
+            try {
+                // Send the number of frames, followed by each frame
+                this.toWorker.write((request.size() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+                for (String frame : request) {
+                    this.writeFrame(frame);
+                }
+                this.toWorker.flush();
+
+                // Read the response
+                return this.readFrame();
+            } catch (IOException e) {
+                this.stop();
+                return "";
+            } finally {
+                // If the process was killed just after responding, make sure it's
+                // restarted for the next request
+                if (deadline != null && !deadline.cancel(false)) {
+                    this.stop();
+                }
+            }
+        }
+
+        /**
+         * Stops the process, if it is running.
+         */
+        void stop() {
+            if (this.process != null) {
+                destroyTree(this.process);
+                this.process = null;
+            }
+        }
+
+        /**
+         * Starts the process; anything it writes to stderr is discarded so that it can
+         * never block on a full pipe.
+         *
+         * @throws IOException if the process cannot be started
+         */
+        private void start() throws IOException {
+            ProcessBuilder pb = new ProcessBuilder();
+            pb.command(this.command);
+            pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+            this.process = pb.start();
+            this.toWorker = new BufferedOutputStream(this.process.getOutputStream());
+            this.fromWorker = new BufferedInputStream(this.process.getInputStream());
+        }
+
+        /**
+         * Writes a single frame to the process.
+         *
+         * @param text the contents of the frame
+         * @throws IOException if the process has died
+         */
+        private void writeFrame(String text) throws IOException {
+            byte[] data = text.getBytes(StandardCharsets.UTF_8);
+            this.toWorker.write((data.length + "\n").getBytes(StandardCharsets.UTF_8));
+            this.toWorker.write(data);
+        }
+
+        /**
+         * Reads a single frame from the process.
+         *
+         * @return the contents of the frame
+         * @throws IOException if the process has died
+         */
+        private String readFrame() throws IOException {
+            // Read the byte count, one digit at a time
+            int length = 0;
+            int next;
+            while ((next = this.fromWorker.read()) != '\n') {
+                if (next < '0' || next > '9') {
+                    throw new EOFException("malformed response from worker");
+                }
+                length = length * 10 + (next - '0');
+            }
+
+            byte[] data = this.fromWorker.readNBytes(length);
+            if (data.length < length) {
+                throw new EOFException("truncated response from worker");
+            }
+            return new String(data, StandardCharsets.UTF_8);
+        }
+    }
+}
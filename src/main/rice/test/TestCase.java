@@ -1,34 +1,126 @@
 package main.rice.test;
 
 import main.rice.obj.APyObj;
+import main.rice.obj.Fingerprints;
 
 import java.util.List;
 
 /**
  * A representation of a test case; a wrapper around its arguments, each of which is an
- * APyObj.
+ * APyObj. A test case is either stored as its list of arguments, or compactly as the
+ * code of its arguments within a ValueTable shared by many test cases, in which case the
+ * arguments are only materialized when they are asked for. Either way, test cases with
+ * equal arguments are equal, and have equal hash codes.
  */
 public class TestCase {
 
     /**
-     * The list of arguments (Python objects) comprising this test case
+     * The number identifying test cases in their fingerprints, which distinguishes them
+     * from the fingerprints of PyObjs.
      */
-    private List<APyObj> args;
+    static final int FINGERPRINT_TAG = 9;
 
     /**
-     * Constructor for a TestCase; initializes its list of arguments to the input.
+     * The list of arguments (Python objects) comprising this test case; unmodifiable, or
+     * null if this test case is stored compactly
+     */
+    private final List<APyObj> args;
+
+    /**
+     * The table in which the arguments of this test case are looked up, or null if the
+     * arguments are stored directly
+     */
+    private final ValueTable table;
+
+    /**
+     * The code of the arguments of this test case within the table (if any)
+     */
+    private final long code;
+
+    /**
+     * The hash code of this test case, computed once at construction
+     */
+    private final int hash;
+
+    /**
+     * The string representation of each argument, built the first time it is needed and
+     * reused afterwards; unmodifiable
+     */
+    private volatile List<String> argReprs;
+
+    /**
+     * Constructor for a TestCase; initializes its list of arguments to an unmodifiable
+     * copy of the input.
      *
      * @param args the list of arguments (Python objects) comprising this test case
      */
     public TestCase(List<APyObj> args) {
-        this.args = args;
+        this.args = List.copyOf(args);
+        this.table = null;
+        this.code = 0;
+        this.hash = this.args.hashCode();
     }
 
     /**
-     * @return the list of arguments comprising this test case
+     * Constructor for a compactly-stored TestCase, whose arguments are the combination
+     * with the given code in the given table.
+     *
+     * @param table the table in which the arguments are looked up
+     * @param code  the code of the arguments, in [0, table.size())
+     */
+    public TestCase(ValueTable table, long code) {
+        this.args = null;
+        this.table = table;
+        this.code = code;
+        this.hash = table.hashOf(code);
+    }
+
+    /**
+     * @return the (unmodifiable) list of arguments comprising this test case; if this
+     * test case is stored compactly, the list is materialized on every call
      */
     public List<APyObj> getArgs() {
-        return this.args;
+        return (this.args != null) ? this.args : this.table.decode(this.code);
+    }
+
+    /**
+     * Computes a 64-bit structural hash of this test's arguments, such that two test
+     * cases that are considered equal by .equals() will also have the same fingerprint,
+     * and unequal test cases almost never do. Computed from the (cached) fingerprints of
+     * the arguments, without materializing them.
+     *
+     * @return the fingerprint of this test case
+     */
+    public long fingerprint() {
+        if (this.args == null) {
+            return this.table.fingerprintOf(this.code);
+        }
+        return Fingerprints.ofElements(FINGERPRINT_TAG, this.args);
+    }
+
+    /**
+     * Returns the string representation of each argument of this test case, as passed
+     * to the Python function under test. The representations are only built once, and
+     * then shared by every run of this test case.
+     *
+     * @return the (unmodifiable) list of string representations of the arguments
+     */
+    public List<String> getArgReprs() {
+        List<String> reprs = this.argReprs;
+        if (reprs == null) {
+            // Building the list twice in a race is harmless, since the results are equal
+            List<APyObj> args = this.getArgs();
+            StringBuilder repr = new StringBuilder();
+            String[] built = new String[args.size()];
+            for (int idx = 0; idx < built.length; idx++) {
+                repr.setLength(0);
+                args.get(idx).appendRepr(repr);
+                built[idx] = repr.toString();
+            }
+            reprs = List.of(built);
+            this.argReprs = reprs;
+        }
+        return reprs;
     }
 
     /**
@@ -38,7 +130,7 @@ public class TestCase {
      */
     @Override
     public String toString() {
-        return this.args.toString();
+        return this.getArgs().toString();
     }
 
     /**
@@ -50,24 +142,34 @@ public class TestCase {
      */
     @Override
     public boolean equals(Object obj) {
-        // If obj is not a TestCase, it's not equivalent
-        if (!(obj instanceof TestCase)) {
+        if (this == obj) {
+            return true;
+        }
+
+        // If obj is not a TestCase, or its hash code differs, it's not equivalent
+        if (!(obj instanceof TestCase) || this.hash != ((TestCase) obj).hash) {
             return false;
         }
 
-        // Compare the lists of arguments for equality
+        // Two test cases stored in the same table are equal exactly when their codes
+        // are, since the arguments in the table are distinct; otherwise, compare the
+        // lists of arguments for equality
         TestCase testCase = (TestCase) obj;
-        return this.args.equals(testCase.getArgs());
+        if (this.table != null && this.table == testCase.table) {
+            return this.code == testCase.code;
+        }
+        return this.getArgs().equals(testCase.getArgs());
     }
 
     /**
-     * Computes a hash code based on this object's value, such that two objects that are
-     * considered equal by .equals() will also have the same hash code.
+     * Returns a hash code based on this object's value, such that two objects that are
+     * considered equal by .equals() will also have the same hash code; computed once, at
+     * construction.
      *
      * @return the hash code for this object
      */
     @Override
     public int hashCode() {
-        return this.args.hashCode();
+        return this.hash;
     }
 }
\ No newline at end of file
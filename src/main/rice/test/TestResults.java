@@ -1,5 +1,7 @@
 package main.rice.test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -14,10 +16,18 @@ public class TestResults {
      */
     private List<TestCase> allCases;
 
+    /**
+     * The results of testing, in the form of a matrix recording which files were caught
+     * by each test case in allCases; null if the results are given by caseToFiles
+     * instead, in which case a matrix is built from it whenever one is requested.
+     */
+    private CoverageMatrix coverage;
+
     /**
      * The results of testing, in the form of a list where the i-th element is the set of
      * integers representing the indices of the files that were caught by that i-th test
-     * case in allCases.
+     * case in allCases; either given to the constructor, or else only built (as an
+     * unmodifiable list) from coverage if it is requested.
      */
     private List<Set<Integer>> caseToFiles;
 
@@ -28,7 +38,9 @@ public class TestResults {
     private Set<Integer> wrongSet;
 
     /**
-     * Constructor for a TestResults object; initializes all fields.
+     * Constructor for a TestResults object; initializes all fields. The input list (and
+     * set) are stored as is, so they remain the source of truth: later changes to them
+     * show up in every getter, including getCoverage().
      *
      * @param allCases    all test cases that were executed
      * @param caseToFiles a list where the i-th element is a set of integers representing
@@ -42,6 +54,20 @@ public class TestResults {
         this.wrongSet = wrongSet;
     }
 
+    /**
+     * Constructor for a TestResults object; initializes all fields, deriving the wrong set
+     * from the coverage matrix.
+     *
+     * @param allCases all test cases that were executed
+     * @param coverage a matrix recording which files were caught by each test case in
+     *                 allCases
+     */
+    public TestResults(List<TestCase> allCases, CoverageMatrix coverage) {
+        this.allCases = allCases;
+        this.coverage = coverage;
+        this.wrongSet = coverage.getWrongSet();
+    }
+
     /**
      * Returns the index-th test case in allCases, if index is within the bounds of
      * allCases; null otherwise.
@@ -66,9 +92,49 @@ public class TestResults {
     }
 
     /**
-     * @return the per-case list of files that they caught (represented by indices)
+     * @return the matrix recording which files were caught by each test case; if this
+     * object was built from a caseToFiles list, a new matrix is built from its current
+     * contents on every call
+     */
+    public CoverageMatrix getCoverage() {
+        if (this.coverage != null) {
+            return this.coverage;
+        }
+
+        // Build the equivalent coverage matrix, with a column for every file mentioned
+        int numFiles = 0;
+        for (Set<Integer> files : this.caseToFiles) {
+            for (int file : files) {
+                numFiles = Math.max(numFiles, file + 1);
+            }
+        }
+        for (int file : this.wrongSet) {
+            numFiles = Math.max(numFiles, file + 1);
+        }
+        CoverageMatrix coverage = new CoverageMatrix(this.caseToFiles.size(), numFiles);
+        for (int caseIndex = 0; caseIndex < this.caseToFiles.size(); caseIndex++) {
+            for (int file : this.caseToFiles.get(caseIndex)) {
+                coverage.set(caseIndex, file);
+            }
+        }
+        return coverage;
+    }
+
+    /**
+     * @return the per-case list of files that they caught (represented by indices); if
+     * this object was built from a coverage matrix, the list is derived from it, and is
+     * unmodifiable (as are its sets), since changes to it would not reach the matrix
      */
     public List<Set<Integer>> getCaseToFiles() {
+        // Build the list from the coverage matrix the first time it's needed
+        if (this.caseToFiles == null) {
+            List<Set<Integer>> caseToFiles = new ArrayList<>();
+            for (int caseIndex = 0; caseIndex < this.coverage.getNumCases(); caseIndex++) {
+                caseToFiles.add(
+                    Collections.unmodifiableSet(this.coverage.getFiles(caseIndex)));
+            }
+            this.caseToFiles = Collections.unmodifiableList(caseToFiles);
+        }
         return this.caseToFiles;
     }
 }
\ No newline at end of file
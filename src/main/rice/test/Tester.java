@@ -1,9 +1,8 @@
 package main.rice.test;
 
-import main.rice.obj.APyObj;
-
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A class for running a test suite. Encapsulates the ability to run the test suite on a
@@ -14,6 +13,24 @@ import java.util.*;
  */
 public class Tester {
 
+    /**
+     * The time budget (in milliseconds) for a test on a buggy implementation, if there is
+     * no measured runtime of the reference solution to derive one from
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * The smallest time budget (in milliseconds) derived from a measured runtime of the
+     * reference solution
+     */
+    public static final long MIN_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * The multiple of the measured runtime of the reference solution that a buggy
+     * implementation is allowed to take on the same test
+     */
+    public static final long TIMEOUT_MULTIPLIER = 10;
+
     /**
      * The name of the function under test
      */
@@ -35,6 +52,34 @@ public class Tester {
      */
     private List<TestCase> tests;
 
+    /**
+     * Whether tests are sent to a pool of long-lived Python workers, rather than each
+     * being run in a new Python process
+     */
+    private boolean useWorkerPool;
+
+    /**
+     * The pool of Python workers, while one is open
+     */
+    private PyWorkerPool pool;
+
+    /**
+     * The number of tests that may be run at the same time
+     */
+    private int parallelism = 1;
+
+    /**
+     * The time budget (in milliseconds) for every test, or 0 if the budgets should be
+     * derived from the measured runtimes of the reference solution
+     */
+    private long timeoutMillis;
+
+    /**
+     * The per-test time budgets (in milliseconds) derived from the measured runtimes of
+     * the reference solution, or null if computeExpectedResults() hasn't been run
+     */
+    private long[] budgets;
+
     /**
      * Constructor for a Tester, which initializes all of the fields using the given
      * inputs.
@@ -54,6 +99,53 @@ public class Tester {
         this.tests = tests;
     }
 
+    /**
+     * Sets whether tests are sent to a pool of long-lived Python workers rather than each
+     * being run in a new Python process. The workers start the interpreter only once, but
+     * still execute the solution or implementation afresh for every test (reusing its
+     * compiled bytecode), so module-level state never carries over from one test to the
+     * next. Either way, the results are the same.
+     *
+     * @param useWorkerPool true to use a worker pool; false to start one process per
+     *                      test
+     */
+    public void setUseWorkerPool(boolean useWorkerPool) {
+        this.useWorkerPool = useWorkerPool;
+    }
+
+    /**
+     * Sets the number of tests that may be run at the same time (and, if a worker pool is
+     * used, the number of workers in it). Implementations keep the same indices, and the
+     * results are the same as those of running the tests one at a time.
+     *
+     * @param parallelism the number of tests that may be run at the same time; must be
+     *                    at least 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets a fixed time budget for every test, including those run on the reference
+     * solution. By default, the budget for a test on a buggy implementation is instead
+     * TIMEOUT_MULTIPLIER times the runtime of the reference solution on that test (but
+     * no less than MIN_TIMEOUT_MILLIS), and the reference solution is not limited. A test
+     * that runs out of time is killed, along with any processes it started, and counts as
+     * having caught the implementation.
+     *
+     * @param timeoutMillis the time budget (in milliseconds) for every test, or 0 to
+     *                      derive the budgets from the reference solution
+     */
+    public void setTimeout(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
     /**
      * Computes the expected results by running each test case on the solution file.
      * Stores the results in a list (which is returned) and also creates a .py file
@@ -68,13 +160,30 @@ public class Tester {
         // the command-line, if the footer doesn't exist already
         this.appendToSolution();
 
-        // Run each test case on the solution file and gather the results in a map
-        List<String> results = new ArrayList<>();
+        // Run each test case on the solution file and gather the results in a map,
+        // timing each one to derive the budget for running it on the buggy
+        // implementations
+        long[] measured = new long[this.tests.size()];
+        List<Callable<String>> units = new ArrayList<>();
         for (int i = 0; i < this.tests.size(); i++) {
-            List<String> args = this.getExpTestArgs(i);
-            String result = this.runTestHelper(args);
-            results.add(result);
+            int testIndex = i;
+            units.add(() -> {
+                long start = System.nanoTime();
+                String result = this.runExpTest(testIndex);
+                long elapsedMillis = (System.nanoTime() - start) / 1000000;
+                measured[testIndex] =
+                    Math.max(MIN_TIMEOUT_MILLIS, TIMEOUT_MULTIPLIER * elapsedMillis);
+                return result;
+            });
         }
+        List<String> results;
+        this.openPool();
+        try {
+            results = this.runAll(units);
+        } finally {
+            this.closePool();
+        }
+        this.budgets = measured;
 
         // Write the expected results to a .py file, so that they can be accessed via
         // the wrapper. These cached results allow us to only run the solution once per
@@ -98,13 +207,6 @@ public class Tester {
         // Create the wrapper file
         this.createWrapperFile();
 
-        // Initialize the outputs
-        List<Set<Integer>> caseToFiles = new ArrayList<>();
-        for (int i = 0; i < this.tests.size(); i++) {
-            caseToFiles.add(new HashSet<>());
-        }
-        Set<Integer> wrongSet = new HashSet<>();
-
         // Get the list of all files in the input directory
         var dir = new File(this.implDirPath);
         String[] filenames = dir.list();
@@ -113,40 +215,157 @@ public class Tester {
         }
         Arrays.sort(filenames);
 
-        // If implDirPath didn't actually point to a directory, files would be null
-        int trueIndex = 0;
-
-        // Test each individual file using all tests in the base test set
+        // Find the implementations to test; each one is represented by its index in
+        // this (sorted) list
+        List<String> implNames = new ArrayList<>();
         for (String filename : filenames) {
             if (!filename.endsWith(".py") || filename.equals("wrapper.py")
-                || filename.equals("expected.py")) {
+                || filename.equals("expected.py")
+                || filename.equals(PyWorkerPool.WORKER_NAME)) {
                 continue;
             }
+            implNames.add(filename);
+        }
 
-            // Run each test case on this file, keeping track of which ones caught
-            // errors
-            HashSet<Integer> caughtBy = new HashSet<>();
-            for (int testIndex = 0; testIndex < this.tests.size(); testIndex++) {
-                List<String> args = this.getTestArgs(testIndex, filename);
-                String result = this.runTestHelper(args);
-                if (!result.equals("True")) {
-                    caseToFiles.get(testIndex).add(trueIndex);
-                    caughtBy.add(testIndex);
-                }
-            }
-
-            // Add to wrongSet if applicable
-            if (caughtBy.size() > 0) {
-                wrongSet.add(trueIndex);
+        // Initialize the output
+        CoverageMatrix coverage = new CoverageMatrix(this.tests.size(), implNames.size());
+
+        // Test each individual file using all tests in the base test set, keeping track
+        // of which ones caught errors; each (file, test) pair is a separate unit of work,
+        // which may run in parallel
+        List<Callable<Void>> units = new ArrayList<>();
+        for (int i = 0; i < implNames.size(); i++) {
+            int trueIndex = i;
+            String filename = implNames.get(trueIndex);
+            for (int j = 0; j < this.tests.size(); j++) {
+                int testIndex = j;
+                units.add(() -> {
+                    String result = this.runTest(testIndex, filename);
+                    if (!result.equals("True")) {
+                        coverage.set(testIndex, trueIndex);
+                    }
+                    return null;
+                });
             }
-            trueIndex++;
+        }
+        this.openPool();
+        try {
+            this.runAll(units);
+        } finally {
+            this.closePool();
         }
 
         // Clean up the pycache that was created
         this.deletePyCache();
 
         // Return the results
-        return new TestResults(this.tests, caseToFiles, wrongSet);
+        return new TestResults(this.tests, coverage);
+    }
+
+    /**
+     * Runs each of the given units of work, using up to this.parallelism threads.
+     *
+     * @param units the units of work to run
+     * @param <T>   the type of result of each unit of work
+     * @return a list where the i-th element is the result of the i-th unit of work
+     * @throws IOException if any unit of work throws an IOException
+     */
+    private <T> List<T> runAll(List<Callable<T>> units) throws IOException {
+        List<T> results = new ArrayList<>();
+
+        // Run everything on this thread if there is no parallelism to be had
+        if (this.parallelism == 1) {
+            for (Callable<T> unit : units) {
+                try {
+                    results.add(unit.call());
+                } catch (IOException | RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        try {
+            for (Future<T> future : executor.invokeAll(units)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while running tests");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Runs a single test case on the solution, either in a new process or through the
+     * open worker pool.
+     *
+     * @param testIndex the index of the test case to be run
+     * @return the result of running the given test case through the solution
+     * @throws IOException if the solution or its output cannot be accessed
+     */
+    private String runExpTest(int testIndex) throws IOException {
+        if (this.pool == null) {
+            return this.runTestHelper(this.getExpTestArgs(testIndex), this.timeoutMillis);
+        }
+        String output = this.pool.runExpected(this.solutionPath, this.funcName,
+            this.argStrs(testIndex), this.timeoutMillis);
+        return readLastLine(new StringReader(output));
+    }
+
+    /**
+     * Runs a single test case on a buggy implementation, either in a new process or
+     * through the open worker pool.
+     *
+     * @param testIndex the index of the test case to be run
+     * @param filename  the name of the implementation being tested
+     * @return "True" if the test passed; anything else if it failed
+     * @throws IOException if the implementation or its output cannot be accessed
+     */
+    private String runTest(int testIndex, String filename) throws IOException {
+        long budget = this.getBudget(testIndex);
+        if (this.pool == null) {
+            return this.runTestHelper(this.getTestArgs(testIndex, filename), budget);
+        }
+        String output = this.pool.runTest(testIndex, filename, this.funcName,
+            this.argStrs(testIndex), budget);
+        return readLastLine(new StringReader(output));
+    }
+
+    /**
+     * Gets the time budget for running a single test case on a buggy implementation.
+     *
+     * @param testIndex the index of the test case
+     * @return the time budget (in milliseconds) for the given test case
+     */
+    private long getBudget(int testIndex) {
+        if (this.timeoutMillis > 0) {
+            return this.timeoutMillis;
+        }
+        if (this.budgets != null && this.budgets.length == this.tests.size()) {
+            return this.budgets[testIndex];
+        }
+        return DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * Builds the list of string representations of the arguments of a single test case.
+     *
+     * @param testIndex the index of the test case
+     * @return the string representation of each argument of the given test case
+     */
+    private List<String> argStrs(int testIndex) {
+        return this.tests.get(testIndex).getArgReprs();
     }
 
     /**
@@ -165,10 +384,7 @@ public class Tester {
 
         // Add each argument as a string; the footer will take care of converting these to
         // Python objects before invoking the function under test
-        TestCase test = this.tests.get(testIndex);
-        for (APyObj arg : test.getArgs()) {
-            args.add(arg.toString());
-        }
+        args.addAll(this.argStrs(testIndex));
         return args;
     }
 
@@ -200,38 +416,73 @@ public class Tester {
 
         // Add each argument as a string; the footer will take care of converting these to
         // Python objects before invoking the function under test
-        TestCase test = this.tests.get(testIndex);
-        for (APyObj arg : test.getArgs()) {
-            args.add(arg.toString());
-        }
+        args.addAll(this.argStrs(testIndex));
         return args;
     }
 
     /**
      * A helper function for runTest and runExpTest which runs a Python process (using a
      * list of arguments, as output by getTestArgs or getExpTestArgs) and reads its
-     * output.
+     * output. If the process runs out of time, it is killed (along with any processes it
+     * started) and its output is discarded.
      *
-     * @param args the arguments for the process to be created
+     * @param args          the arguments for the process to be created
+     * @param timeoutMillis the time budget (in milliseconds) for the process, or 0 if it
+     *                      is unlimited
      * @throws IOException if the file to run or its output cannot be accessed
      */
-    private String runTestHelper(List<String> args) throws IOException {
+    private String runTestHelper(List<String> args, long timeoutMillis)
+        throws IOException {
         ProcessBuilder pb = new ProcessBuilder();
         pb.command(args);
+
+        // Only the standard output holds the result; discard anything written to the
+        // standard error, so that it can never fill up a pipe that nobody reads
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
         Process process = pb.start();
 
-        // Redirect the output of the process to here
-        var sb = new StringBuilder();
-        var reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        // Read the output of the process on another thread while waiting for it, so
+        // that a process that prints a lot can't block on a full pipe and run out of
+        // time as a result
+        FutureTask<String> output = new FutureTask<>(
+            () -> readLastLine(new InputStreamReader(process.getInputStream())));
+        Thread reader = new Thread(output, "test-output-reader");
+        reader.setDaemon(true);
+        reader.start();
 
-        // Wait until the process has exited
+        // Wait until the process has exited or run out of time
         try {
-            process.waitFor();
+            if (timeoutMillis == 0) {
+                process.waitFor();
+            } else if (!process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                PyWorkerPool.destroyTree(process);
+                return "";
+            }
+
+            // The last line of the output should be the result
+            return output.get();
         } catch (InterruptedException e) {
-            e.printStackTrace();
+            PyWorkerPool.destroyTree(process);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while running a test");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
         }
+    }
 
-        // Read the output of the process, the last line of which should be the result
+    /**
+     * Reads the given output of a test through to the end and closes it.
+     *
+     * @param output the output of a test
+     * @return the last line of the output (which should be the result), or the empty
+     * string if there was no output
+     * @throws IOException if the output cannot be read
+     */
+    private static String readLastLine(Reader output) throws IOException {
+        var reader = new BufferedReader(output);
         String line;
         String prevLine = "";
         while ((line = reader.readLine()) != null) {
@@ -239,11 +490,32 @@ public class Tester {
         }
         reader.close();
 
-        // Return the result
         // Return the result
         return prevLine;
     }
 
+    /**
+     * Opens a worker pool within the directory of buggy implementations, if this tester
+     * is configured to use one.
+     *
+     * @throws IOException if the worker file cannot be created
+     */
+    private void openPool() throws IOException {
+        if (this.useWorkerPool) {
+            this.pool = new PyWorkerPool(this.implDirPath, this.parallelism);
+        }
+    }
+
+    /**
+     * Closes the open worker pool, if there is one.
+     */
+    private void closePool() {
+        if (this.pool != null) {
+            this.pool.close();
+            this.pool = null;
+        }
+    }
+
     /**
      * Creates a wrapper file that imports the expected results, reads the command-line
      * args, dynamically imports the buggy implementation, generates the actual results
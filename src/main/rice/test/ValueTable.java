@@ -0,0 +1,161 @@
+package main.rice.test;
+
+import main.rice.obj.APyObj;
+import main.rice.obj.Fingerprints;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * A table of the possible arguments for each parameter of a function, which lets a
+ * combination of arguments (one for each parameter) be stored compactly as a single
+ * long: its code, i.e. its index in the Cartesian product of the possible arguments.
+ * The code is a mixed-radix number whose i-th digit is the index of the argument to the
+ * i-th parameter (so the last parameter is the least significant digit), which means
+ * that counting from 0 to size() - 1 visits every combination in odometer order.
+ */
+public final class ValueTable {
+
+    /**
+     * The possible arguments for each parameter; unmodifiable.
+     */
+    private final List<List<APyObj>> values;
+
+    /**
+     * The weight of each digit of a code, i.e. the product of the numbers of possible
+     * arguments for the later parameters.
+     */
+    private final long[] weights;
+
+    /**
+     * The number of combinations of arguments.
+     */
+    private final long size;
+
+    /**
+     * Constructor for a ValueTable; stores unmodifiable copies of the input lists.
+     *
+     * @param values the possible (distinct) arguments for each parameter
+     * @throws IllegalArgumentException if there are too many combinations of arguments
+     *                                  for each to be given a (non-negative) long code
+     */
+    public ValueTable(List<? extends List<? extends APyObj>> values) {
+        if (!fits(values)) {
+            throw new IllegalArgumentException(
+                "Too many combinations of arguments to be encoded");
+        }
+        List<List<APyObj>> copies = new ArrayList<>();
+        for (List<? extends APyObj> paramValues : values) {
+            copies.add(List.copyOf(paramValues));
+        }
+        this.values = List.copyOf(copies);
+
+        this.weights = new long[values.size()];
+        long weight = 1;
+        for (int i = values.size() - 1; i >= 0; i--) {
+            this.weights[i] = weight;
+            weight *= values.get(i).size();
+        }
+        this.size = weight;
+    }
+
+    /**
+     * Checks whether every combination of the input arguments can be given a
+     * (non-negative) long code.
+     *
+     * @param values the possible arguments for each parameter
+     * @return true if a ValueTable can be built from values; false otherwise
+     */
+    public static boolean fits(List<? extends List<?>> values) {
+        BigInteger size = BigInteger.ONE;
+        for (List<?> paramValues : values) {
+            size = size.multiply(BigInteger.valueOf(paramValues.size()));
+        }
+        return size.bitLength() < Long.SIZE;
+    }
+
+    /**
+     * @return the number of parameters
+     */
+    public int numParams() {
+        return this.values.size();
+    }
+
+    /**
+     * @return the number of combinations of arguments (the largest code plus one)
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Computes the code of a combination of arguments.
+     *
+     * @param indices the index of the argument to each parameter
+     * @return the code of the combination
+     */
+    public long encode(int[] indices) {
+        long code = 0;
+        for (int i = 0; i < indices.length; i++) {
+            code += indices[i] * this.weights[i];
+        }
+        return code;
+    }
+
+    /**
+     * Finds the argument to a single parameter within a combination.
+     *
+     * @param code  the code of the combination, in [0, size())
+     * @param param the index of the parameter
+     * @return the argument to the parameter
+     */
+    public APyObj get(long code, int param) {
+        List<APyObj> paramValues = this.values.get(param);
+        return paramValues.get((int) (code / this.weights[param] % paramValues.size()));
+    }
+
+    /**
+     * Materializes a combination of arguments.
+     *
+     * @param code the code of the combination, in [0, size())
+     * @return an unmodifiable list of the arguments in the combination
+     */
+    public List<APyObj> decode(long code) {
+        APyObj[] args = new APyObj[this.numParams()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = this.get(code, i);
+        }
+        return List.of(args);
+    }
+
+    /**
+     * Computes the hash code of the list of arguments in a combination, without
+     * materializing it.
+     *
+     * @param code the code of the combination, in [0, size())
+     * @return the same hash code as decode(code).hashCode()
+     */
+    public int hashOf(long code) {
+        int hash = 1;
+        for (int i = 0; i < this.numParams(); i++) {
+            hash = 31 * hash + this.get(code, i).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the fingerprint of the test case with the arguments in a combination,
+     * without materializing them.
+     *
+     * @param code the code of the combination, in [0, size())
+     * @return the same fingerprint as that of a TestCase with decode(code) as arguments
+     */
+    public long fingerprintOf(long code) {
+        long fingerprint = Fingerprints.start(TestCase.FINGERPRINT_TAG);
+        for (int i = 0; i < this.numParams(); i++) {
+            long argFingerprint = this.get(code, i).fingerprint();
+            fingerprint = Fingerprints.combine(fingerprint, argFingerprint);
+        }
+        return Fingerprints.combine(fingerprint, this.numParams());
+    }
+}
@@ -10,7 +10,9 @@ import main.rice.test.TestCase;
 import org.junit.jupiter.api.*;
 import test.rice.node.APyNodeTest;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -158,6 +160,26 @@ public class MainTest {
         mainTestMultipleOptionsHelper(args, expectedOptions);
     }
 
+    /**
+     * Tests that the seed of the random test cases is printed, in the form in which it
+     * can be added to the config file to replay the run.
+     */
+    @Test
+    @Order(7)
+    void testPrintsSeed() {
+        String[] args = buildArgs("func0", "func0simple", "f0multipleRight");
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(output, true));
+            runMain(args);
+        } finally {
+            System.setOut(stdout);
+        }
+        assertTrue(output.toString().matches(
+            "(?s)Generating tests with \"seed\": -?\\d+\\R.*"), output.toString());
+    }
+
     /**
      * Helper function for building the array of args for Main.main() by adding absolute
      * path information.
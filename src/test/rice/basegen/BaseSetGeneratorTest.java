@@ -6,9 +6,12 @@ import main.rice.obj.*;
 import main.rice.test.TestCase;
 import org.junit.jupiter.api.*;
 
+import java.math.BigInteger;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -315,6 +318,298 @@ class BaseSetGeneratorTest {
             oneArgSimpleOverlapRandVals, 3, 100, true));
     }
 
+    /* TESTING countExTests() and countBaseSet() */
+    /**
+     * Tests that countExTests() and countBaseSet() match the number of test cases that
+     * are actually generated, using multiple nested args.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(18)
+    void testCountMatchesGen() {
+        BaseSetGenerator gen = new BaseSetGenerator(multipleArgsNested, 3);
+        assertEquals(BigInteger.valueOf(multipleArgsNestedExVals.size()),
+            gen.countExTests());
+        assertEquals(BigInteger.valueOf(multipleArgsNestedExVals.size() + 3),
+            gen.countBaseSet());
+        assertEquals(multipleArgsNestedExVals.size() + 3, gen.genBaseSet().size());
+    }
+
+    /**
+     * Tests that genExTests() fails fast, rather than running out of memory, when the
+     * semi-exhaustive test set is too large to store.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(19)
+    void testTooManyExTests() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(12));
+        BaseSetGenerator gen = new BaseSetGenerator(List.of(node), 0);
+        assertEquals(BigInteger.TEN.pow(12), gen.countExTests());
+        assertThrows(IllegalStateException.class, gen::genExTests);
+    }
+
+    /**
+     * Tests the case where every test case within the random domains is requested, so
+     * that random generation has to find all of them.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(20)
+    void testRandEntireDomain() {
+        BaseSetGenerator generator = new BaseSetGenerator(oneArgSimple, 8);
+        Set<TestCase> tests = generator.genRandTests();
+        assertEquals(oneArgSimpleRandVals, tests);
+    }
+
+    /**
+     * Tests that random generation fails fast, rather than looping forever, when more
+     * test cases are requested than exist within the random domains.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(21)
+    void testRandTooMany() {
+        BaseSetGenerator generator = new BaseSetGenerator(oneArgSimple, 9);
+        assertThrows(IllegalStateException.class, generator::genRandTests);
+    }
+
+    /**
+     * Tests that generating the base set fails fast, rather than looping forever, when
+     * the random domain is large enough on its own, but most of it is already covered by
+     * the exhaustive domain.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(22)
+    void testRandMostlyCovered() {
+        PyIntNode node = new PyIntNode();
+        node.setExDomain(List.of(1, 2, 3, 4));
+        node.setRanDomain(List.of(1, 2, 3, 4, 5));
+        BaseSetGenerator generator = new BaseSetGenerator(List.of(node), 2);
+        assertThrows(IllegalStateException.class, generator::genBaseSet);
+
+        // Requesting exactly the one remaining test case succeeds
+        generator = new BaseSetGenerator(List.of(node), 1);
+        assertEquals(5, generator.genBaseSet().size());
+    }
+
+    /**
+     * Tests that generating with the same seed always yields the same random test
+     * cases, and that a different seed (almost certainly) doesn't.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(23)
+    void testRandSameSeed() {
+        List<Number> domain = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            domain.add(i);
+        }
+        PyIntNode node = new PyIntNode();
+        node.setExDomain(List.of());
+        node.setRanDomain(domain);
+        List<APyNode<?>> nodes = List.of(node, node);
+
+        BaseSetGenerator generator = new BaseSetGenerator(nodes, 20, 1234L);
+        assertEquals(1234L, generator.getSeed());
+        Set<TestCase> tests = generator.genRandTests();
+        assertEquals(tests, new BaseSetGenerator(nodes, 20, 1234L).genRandTests());
+        assertNotEquals(tests, new BaseSetGenerator(nodes, 20, 4321L).genRandTests());
+    }
+
+    /**
+     * Tests that forEachExTest() streams each exhaustive test case exactly once, in
+     * odometer order (with the last parameter varying fastest).
+     */
+    @Test
+    @Tag("1.0")
+    @Order(24)
+    void testForEachExTest() {
+        PyIntNode first = new PyIntNode();
+        first.setExDomain(List.of(1, 2));
+        PyBoolNode second = new PyBoolNode();
+        second.setExDomain(List.of(0, 1));
+        PyIntNode third = new PyIntNode();
+        third.setExDomain(List.of(7, 8, 9));
+        List<APyNode<?>> nodes = List.of(first, second, third);
+
+        List<TestCase> streamed = new ArrayList<>();
+        new BaseSetGenerator(nodes, 0).forEachExTest(streamed::add);
+        assertEquals(12, streamed.size());
+        assertEquals(new TestCase(List.of(new PyIntObj(1), new PyBoolObj(false),
+            new PyIntObj(7))), streamed.get(0));
+        assertEquals(new TestCase(List.of(new PyIntObj(1), new PyBoolObj(false),
+            new PyIntObj(8))), streamed.get(1));
+        assertEquals(new TestCase(List.of(new PyIntObj(2), new PyBoolObj(true),
+            new PyIntObj(9))), streamed.get(11));
+        assertEquals(new BaseSetGenerator(nodes, 0).genExTests(),
+            new HashSet<>(streamed));
+
+        // A parameter without any arguments means there are no test cases at all
+        third.setExDomain(List.of());
+        streamed.clear();
+        new BaseSetGenerator(nodes, 0).forEachExTest(streamed::add);
+        assertEquals(List.of(), streamed);
+    }
+
+    /**
+     * Tests that a positive strength generates a covering array, which covers every
+     * pair of arguments with fewer test cases than every combination of them, and that
+     * the strength is ignored when there are no more parameters than it.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(25)
+    void testGenExTestsPairwise() {
+        List<APyNode<?>> nodes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PyIntNode node = new PyIntNode();
+            node.setExDomain(List.of(0, 1, 2));
+            nodes.add(node);
+        }
+        BaseSetGenerator generator = new BaseSetGenerator(nodes, 0, 0L, 2);
+        assertEquals(2, generator.getStrength());
+        Set<TestCase> tests = generator.genExTests();
+        assertTrue(tests.size() < 243);
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                for (int a = 0; a < 3; a++) {
+                    for (int b = 0; b < 3; b++) {
+                        assertTrue(coversPair(tests, i, a, j, b));
+                    }
+                }
+            }
+        }
+        assertEquals(tests, new BaseSetGenerator(nodes, 0, 1L, 2).genExTests());
+
+        // With no more parameters than the strength, every combination is generated
+        List<APyNode<?>> twoNodes = nodes.subList(0, 2);
+        assertEquals(new BaseSetGenerator(twoNodes, 0).genExTests(),
+            new BaseSetGenerator(twoNodes, 0, 0L, 2).genExTests());
+        assertThrows(IllegalArgumentException.class,
+            () -> new BaseSetGenerator(nodes, 0, 0L, -1));
+    }
+
+    /**
+     * Tests that building the base test set on several threads yields the same test
+     * cases, in the same order, as building it on one thread, both for every
+     * combination of arguments and for a covering array.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(26)
+    void testGenBaseSetParallel() {
+        // Large enough that the exhaustive test cases are built in several blocks
+        List<Number> exDomain = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            exDomain.add(i);
+        }
+        List<Number> ranDomain = new ArrayList<>();
+        for (int i = -1000; i <= 1000; i++) {
+            ranDomain.add(i);
+        }
+        List<APyNode<?>> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PyIntNode node = new PyIntNode();
+            node.setExDomain(exDomain);
+            node.setRanDomain(ranDomain);
+            nodes.add(node);
+        }
+
+        List<TestCase> expected = new BaseSetGenerator(nodes, 500, 42L).genBaseSet();
+        assertEquals(125500, expected.size());
+        for (int parallelism : new int[]{2, 4}) {
+            BaseSetGenerator generator = new BaseSetGenerator(nodes, 500, 42L);
+            generator.setParallelism(parallelism);
+            assertEquals(expected, generator.genBaseSet());
+        }
+
+        nodes.add(nodes.get(0));
+        expected = new BaseSetGenerator(nodes, 500, 42L, 2).genBaseSet();
+        BaseSetGenerator generator = new BaseSetGenerator(nodes, 500, 42L, 2);
+        generator.setParallelism(3);
+        assertEquals(expected, generator.genBaseSet());
+        assertThrows(IllegalArgumentException.class, () -> generator.setParallelism(0));
+    }
+
+    /**
+     * Tests that random test cases follow the nodes' own distributions by default, and
+     * are drawn uniformly from the distinct combinations of arguments when uniform
+     * sampling is requested (in which case about 90% of lists have the largest length).
+     */
+    @Test
+    @Tag("1.0")
+    @Order(27)
+    void testUniformSampling() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of());
+        child.setRanDomain(Domain.range(0, 9));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of());
+        node.setRanDomain(Domain.range(0, 5));
+        List<APyNode<?>> nodes = List.of(node);
+
+        assertTrue(countShort(new BaseSetGenerator(nodes, 200, 5L).genRandTests()) > 100);
+        BaseSetGenerator generator = new BaseSetGenerator(nodes, 200, 5L);
+        generator.setUniformSampling(true);
+        Set<TestCase> tests = generator.genRandTests();
+        assertTrue(countShort(tests) < 50);
+        generator = new BaseSetGenerator(nodes, 200, 5L);
+        generator.setUniformSampling(true);
+        assertEquals(tests, generator.genRandTests());
+
+        // Uniform sampling fails fast once the random domain is used up, too
+        PyIntNode covered = new PyIntNode();
+        covered.setExDomain(List.of(1, 2, 3, 4));
+        covered.setRanDomain(List.of(1, 2, 3, 4, 5));
+        BaseSetGenerator tooMany = new BaseSetGenerator(List.of(covered), 2);
+        tooMany.setUniformSampling(true);
+        assertThrows(IllegalStateException.class, tooMany::genBaseSet);
+    }
+
+    /**
+     * Helper function for testUniformSampling; counts the test cases whose (only)
+     * argument is a list shorter than 5.
+     *
+     * @param tests the test cases
+     * @return the number of test cases whose argument has fewer than 5 elements
+     */
+    private static int countShort(Set<TestCase> tests) {
+        int numShort = 0;
+        for (TestCase test : tests) {
+            if (((PyListObj<?>) test.getArgs().get(0)).getValue().size() < 5) {
+                numShort++;
+            }
+        }
+        return numShort;
+    }
+
+    /**
+     * Helper function for testGenExTestsPairwise; checks whether some test case has the
+     * given (integer) arguments for two of its parameters.
+     *
+     * @param tests the test cases
+     * @param i     the index of the first parameter
+     * @param a     the argument to the first parameter
+     * @param j     the index of the second parameter
+     * @param b     the argument to the second parameter
+     * @return true if some test case has argument a for parameter i and argument b for
+     * parameter j; false otherwise
+     */
+    private static boolean coversPair(Set<TestCase> tests, int i, int a, int j, int b) {
+        for (TestCase test : tests) {
+            if (test.getArgs().get(i).equals(new PyIntObj(a))
+                && test.getArgs().get(j).equals(new PyIntObj(b))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Sets up oneArgOneOption, oneArgOneOptionExVals, and oneArgOneOptionRandVals.
      */
@@ -0,0 +1,131 @@
+package test.rice.basegen;
+
+import main.rice.basegen.CoveringArray;
+import main.rice.node.Combinatorics;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the CoveringArray class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CoveringArrayTest {
+
+    /**
+     * Tests pairwise covering arrays over parameters with equal and unequal numbers of
+     * values.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(1)
+    void testPairwise() {
+        // Ten binary parameters are covered by far fewer than 1024 rows
+        int[] binary = new int[10];
+        Arrays.fill(binary, 2);
+        List<int[]> rows = CoveringArray.build(binary, 2);
+        assertCovers(rows, binary, 2);
+        assertTrue(rows.size() <= 12);
+
+        int[] mixed = {4, 3, 2, 5, 3};
+        rows = CoveringArray.build(mixed, 2);
+        assertCovers(rows, mixed, 2);
+        assertTrue(rows.size() < 360);
+
+        // At least 4 * 5 rows are needed to cover the two largest parameters
+        assertTrue(rows.size() >= 20);
+    }
+
+    /**
+     * Tests 3-wise and 1-wise covering arrays.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(2)
+    void testOtherStrengths() {
+        int[] radices = {3, 3, 2, 3, 2, 3};
+        List<int[]> rows = CoveringArray.build(radices, 3);
+        assertCovers(rows, radices, 3);
+        assertTrue(rows.size() < 972);
+
+        rows = CoveringArray.build(radices, 1);
+        assertCovers(rows, radices, 1);
+        assertEquals(3, rows.size());
+    }
+
+    /**
+     * Tests that a covering array over no more parameters than its strength is the full
+     * Cartesian product, and the edge cases of no parameters and of parameters without
+     * values.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(3)
+    void testEdgeCases() {
+        List<int[]> rows = CoveringArray.build(new int[]{2, 3}, 3);
+        assertEquals(6, rows.size());
+        assertArrayEquals(new int[]{0, 0}, rows.get(0));
+        assertArrayEquals(new int[]{1, 2}, rows.get(5));
+
+        assertEquals(1, CoveringArray.build(new int[0], 2).size());
+        assertEquals(0, CoveringArray.build(new int[]{3, 0, 3}, 2).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> CoveringArray.build(new int[]{2, 2}, 0));
+    }
+
+    /**
+     * Tests that building the same covering array twice yields the same rows.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(4)
+    void testDeterministic() {
+        int[] radices = {5, 4, 3, 4, 5};
+        List<int[]> rows1 = CoveringArray.build(radices, 2);
+        List<int[]> rows2 = CoveringArray.build(radices, 2);
+        assertEquals(rows1.size(), rows2.size());
+        for (int i = 0; i < rows1.size(); i++) {
+            assertArrayEquals(rows1.get(i), rows2.get(i));
+        }
+    }
+
+    /**
+     * Helper function for checking that the rows form a covering array of the given
+     * strength: that every value of every row is valid, and that for every choice of
+     * strength parameters, every combination of their values appears in some row.
+     *
+     * @param rows     the rows of the covering array
+     * @param radices  the number of values of each parameter
+     * @param strength the strength of the covering array
+     */
+    private static void assertCovers(List<int[]> rows, int[] radices, int strength) {
+        for (int[] row : rows) {
+            assertEquals(radices.length, row.length);
+            for (int pos = 0; pos < row.length; pos++) {
+                assertTrue(row[pos] >= 0 && row[pos] < radices[pos]);
+            }
+        }
+
+        int[] params = Combinatorics.firstCombination(strength, radices.length);
+        do {
+            // Collect the combinations of values of these parameters that appear
+            Set<List<Integer>> covered = new HashSet<>();
+            for (int[] row : rows) {
+                List<Integer> values = new ArrayList<>();
+                for (int param : params) {
+                    values.add(row[param]);
+                }
+                covered.add(values);
+            }
+
+            int expected = 1;
+            for (int param : params) {
+                expected *= radices[param];
+            }
+            assertEquals(expected, covered.size(),
+                "Missing combinations for parameters " + Arrays.toString(params));
+        } while (Combinatorics.nextCombination(params, radices.length));
+    }
+}
@@ -0,0 +1,96 @@
+package test.rice.basegen;
+
+import main.rice.basegen.FingerprintSet;
+import main.rice.obj.*;
+import main.rice.test.TestCase;
+import main.rice.test.ValueTable;
+import org.junit.jupiter.api.*;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the FingerprintSet class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FingerprintSetTest {
+
+    /**
+     * Tests that duplicates are rejected, whether or not they are the same instance, and
+     * that the test cases are kept in the order in which they were added.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(1)
+    void testAdd() {
+        FingerprintSet set = new FingerprintSet();
+        TestCase first = new TestCase(List.of(new PyIntObj(1), new PyStringObj("a")));
+        TestCase second = new TestCase(List.of(new PyStringObj("a"), new PyIntObj(1)));
+        assertTrue(set.add(first));
+        assertTrue(set.add(second));
+        assertFalse(set.add(first));
+        assertFalse(set.add(new TestCase(List.of(new PyIntObj(1),
+            new PyStringObj("a")))));
+        assertEquals(2, set.size());
+        assertEquals(List.of(first, second), set.toList());
+        assertTrue(set.contains(second));
+        assertFalse(set.contains(new TestCase(List.of(new PyIntObj(1)))));
+    }
+
+    /**
+     * Tests that compactly-stored test cases are recognized as duplicates of test cases
+     * with the same arguments.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(2)
+    void testCompact() {
+        ValueTable table = new ValueTable(List.of(
+            List.of(new PyIntObj(1), new PyIntObj(2)),
+            List.of(new PyBoolObj(false), new PyBoolObj(true))));
+        FingerprintSet set = new FingerprintSet(4);
+        for (long code = 0; code < table.size(); code++) {
+            assertTrue(set.add(new TestCase(table, code)));
+        }
+        assertFalse(set.add(new TestCase(List.of(new PyIntObj(2),
+            new PyBoolObj(false)))));
+        assertEquals(4, set.size());
+    }
+
+    /**
+     * Tests that the set keeps working as it grows well beyond its initial size.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testGrow() {
+        FingerprintSet set = new FingerprintSet();
+        Set<TestCase> expected = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            TestCase test = new TestCase(List.of(new PyIntObj(i % 5000)));
+            assertEquals(expected.add(test), set.add(test));
+        }
+        assertEquals(5000, set.size());
+        assertEquals(expected, new HashSet<>(set.toList()));
+    }
+
+    /**
+     * Tests that a huge expected size doesn't reserve room for every test case up front,
+     * and that the maximum size is reported consistently.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(4)
+    void testMaxSize() {
+        FingerprintSet set = new FingerprintSet(FingerprintSet.MAX_SIZE);
+        assertTrue(set.add(new TestCase(List.of(new PyIntObj(1)))));
+        assertEquals(1, set.size());
+
+        String message = FingerprintSet.tooLarge(
+            BigInteger.valueOf(FingerprintSet.MAX_SIZE + 1L)).getMessage();
+        assertTrue(message.contains(String.valueOf(FingerprintSet.MAX_SIZE + 1L)));
+        assertTrue(message.endsWith("maximum of " + FingerprintSet.MAX_SIZE));
+    }
+}
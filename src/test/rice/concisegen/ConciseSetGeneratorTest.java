@@ -364,6 +364,71 @@ class ConciseSetGeneratorTest {
         return caseToFiles;
     }
 
+    /**
+     * Tests setCover() against a straightforward (non-lazy) greedy set cover on many
+     * random inputs with many ties, to make sure the same cover is selected.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(12)
+    void testMatchesEagerGreedy() {
+        Random rand = new Random(0);
+        for (int trial = 0; trial < 200; trial++) {
+            int numCases = 1 + rand.nextInt(80);
+            int numFiles = 1 + rand.nextInt(150);
+
+            // Each test case catches a few random files
+            List<Set<Integer>> caseToFiles = new ArrayList<>();
+            Set<Integer> wrongSet = new HashSet<>();
+            for (int i = 0; i < numCases; i++) {
+                Set<Integer> caught = new HashSet<>();
+                int numCaught = rand.nextInt(6);
+                for (int j = 0; j < numCaught; j++) {
+                    caught.add(rand.nextInt(numFiles));
+                }
+                caseToFiles.add(caught);
+                wrongSet.addAll(caught);
+            }
+
+            List<TestCase> allCases = generateIntegerCases(numCases);
+            TestResults input = new TestResults(allCases, caseToFiles, wrongSet);
+            assertEquals(eagerGreedy(allCases, caseToFiles, wrongSet),
+                generator.setCover(input));
+        }
+    }
+
+    /**
+     * A straightforward greedy set cover, which rescans every test case at every step
+     * and selects the lowest-indexed one that catches the most uncovered files.
+     *
+     * @param allCases    the test cases
+     * @param caseToFiles the files caught by each test case
+     * @param wrongSet    the files to be covered
+     * @return the selected test cases
+     */
+    private Set<TestCase> eagerGreedy(List<TestCase> allCases,
+        List<Set<Integer>> caseToFiles, Set<Integer> wrongSet) {
+        Set<TestCase> cover = new HashSet<>();
+        Set<Integer> covered = new HashSet<>();
+        Set<Integer> remaining = new HashSet<>(wrongSet);
+        while (!remaining.isEmpty()) {
+            int best = -1;
+            int bestCount = 0;
+            for (int i = 0; i < caseToFiles.size(); i++) {
+                Set<Integer> caught = new HashSet<>(caseToFiles.get(i));
+                caught.removeAll(covered);
+                if (caught.size() > bestCount) {
+                    best = i;
+                    bestCount = caught.size();
+                }
+            }
+            covered.addAll(caseToFiles.get(best));
+            remaining.removeAll(caseToFiles.get(best));
+            cover.add(allCases.get(best));
+        }
+        return cover;
+    }
+
     /**
      * Helper function for testing the case where all tests in allCases are needed for
      * coverage.
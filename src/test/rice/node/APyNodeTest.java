@@ -3,13 +3,15 @@ package test.rice.node;
 import main.rice.node.APyNode;
 import main.rice.obj.APyObj;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
- * Helper functions for testing random generation, to be shared by all of the Py*NodeTest
- * classes.
+ * Helper functions for testing random and exhaustive generation, to be shared by all of
+ * the Py*NodeTest classes.
  */
 public class APyNodeTest {
 
@@ -97,4 +99,52 @@ public class APyNodeTest {
         }
         return expRand;
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper function for testing iterExVals() that checks that the lazy iterator yields
+     * exactly the values produced by genExVals(), each exactly once.
+     *
+     * @param node the node being used to generate exhaustive values
+     */
+    public static <T extends APyObj> void assertIterMatchesGen(APyNode<T> node) {
+        List<T> actual = new ArrayList<>();
+        Iterator<T> iter = node.iterExVals();
+        while (iter.hasNext()) {
+            actual.add(iter.next());
+        }
+        Set<T> actualSet = new HashSet<>(actual);
+        assertEquals(actualSet.size(), actual.size());
+        assertEquals(node.genExVals(), actualSet);
+    }
+
+    /**
+     * Helper function for testing countExVals() that checks that the count matches the
+     * number of values produced by genExVals().
+     *
+     * @param node the node whose exhaustive values are to be counted
+     */
+    public static <T extends APyObj> void assertCountMatchesGen(APyNode<T> node) {
+        assertEquals(BigInteger.valueOf(node.genExVals().size()), node.countExVals());
+    }
+
+    /**
+     * Helper function for testing unrank() and rank() that checks that the i-th value
+     * produced by iterExVals() is unranked from, and ranked to, i, and that indices out
+     * of range are rejected.
+     *
+     * @param node the node whose exhaustive values are to be ranked and unranked
+     */
+    public static <T extends APyObj> void assertRankMatchesIter(APyNode<T> node) {
+        long index = 0;
+        Iterator<T> iter = node.iterExVals();
+        while (iter.hasNext()) {
+            T value = iter.next();
+            assertEquals(value, node.unrank(index));
+            assertEquals(BigInteger.valueOf(index), node.rank(value));
+            index++;
+        }
+        long count = index;
+        assertThrows(IndexOutOfBoundsException.class, () -> node.unrank(count));
+        assertThrows(IndexOutOfBoundsException.class, () -> node.unrank(-1));
+    }
+}
@@ -0,0 +1,159 @@
+package test.rice.node;
+
+import main.rice.node.Combinatorics;
+import main.rice.node.LazyIterators;
+import org.junit.jupiter.api.*;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the Combinatorics class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CombinatoricsTest {
+
+    /**
+     * Tests choose() on small inputs, including sizes larger than the set.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(1)
+    void testChooseSmall() {
+        assertEquals(BigInteger.ONE, Combinatorics.choose(BigInteger.ZERO, 0));
+        assertEquals(BigInteger.ZERO, Combinatorics.choose(BigInteger.ZERO, 1));
+        assertEquals(BigInteger.valueOf(10), Combinatorics.choose(BigInteger.valueOf(5),
+            2));
+        assertEquals(BigInteger.ZERO, Combinatorics.choose(BigInteger.valueOf(3), 4));
+    }
+
+    /**
+     * Tests that unrankProduct() matches the order of LazyIterators.product(), and that
+     * rankProduct() inverts it.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(2)
+    void testProductMatchesIterator() {
+        List<BigInteger> digits = indices(3);
+        Iterator<List<BigInteger>> iter = LazyIterators.product(digits::iterator, 4);
+        BigInteger index = BigInteger.ZERO;
+        while (iter.hasNext()) {
+            List<BigInteger> expected = iter.next();
+            assertEquals(expected,
+                Combinatorics.unrankProduct(index, BigInteger.valueOf(3), 4));
+            assertEquals(index, Combinatorics.rankProduct(expected,
+                BigInteger.valueOf(3)));
+            index = index.add(BigInteger.ONE);
+        }
+        assertEquals(BigInteger.valueOf(81), index);
+    }
+
+    /**
+     * Tests that unrankCombination() matches the order of LazyIterators.combinations(),
+     * and that rankCombination() inverts it.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testCombinationMatchesIterator() {
+        for (int size = 0; size <= 7; size++) {
+            List<BigInteger> elements = indices(7);
+            Iterator<List<BigInteger>> iter =
+                LazyIterators.combinations(elements::iterator, size);
+            BigInteger index = BigInteger.ZERO;
+            while (iter.hasNext()) {
+                List<BigInteger> expected = iter.next();
+                assertEquals(expected, Combinatorics.unrankCombination(index,
+                    BigInteger.valueOf(7), size));
+                assertEquals(index, Combinatorics.rankCombination(expected,
+                    BigInteger.valueOf(7)));
+                index = index.add(BigInteger.ONE);
+            }
+            assertEquals(Combinatorics.choose(BigInteger.valueOf(7), size), index);
+        }
+    }
+
+    /**
+     * Tests that rankCombination() inverts unrankCombination() when there are far too
+     * many combinations to enumerate.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(4)
+    void testCombinationHuge() {
+        BigInteger n = BigInteger.TEN.pow(20);
+        BigInteger count = Combinatorics.choose(n, 5);
+        for (BigInteger index : List.of(BigInteger.ZERO, count.shiftRight(1),
+            count.subtract(BigInteger.ONE))) {
+            List<BigInteger> combination = Combinatorics.unrankCombination(index, n, 5);
+            assertEquals(index, Combinatorics.rankCombination(combination, n));
+        }
+        assertEquals(List.of(BigInteger.ZERO, BigInteger.ONE, BigInteger.TWO,
+                BigInteger.valueOf(3), BigInteger.valueOf(4)),
+            Combinatorics.unrankCombination(BigInteger.ZERO, n, 5));
+    }
+
+    /**
+     * Tests that stepping through products and combinations in place with
+     * nextProduct() and nextCombination() matches the order of unranking.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(5)
+    void testNextMatchesUnrank() {
+        int[] digits = Combinatorics.firstProduct(3, 4);
+        long index = 0;
+        do {
+            assertEquals(Combinatorics.unrankProduct(BigInteger.valueOf(index),
+                BigInteger.valueOf(4), 3), toList(digits));
+            index++;
+        } while (Combinatorics.nextProduct(digits, 4));
+        assertEquals(64, index);
+
+        int[] indices = Combinatorics.firstCombination(3, 6);
+        index = 0;
+        do {
+            assertEquals(Combinatorics.unrankCombination(BigInteger.valueOf(index),
+                BigInteger.valueOf(6), 3), toList(indices));
+            index++;
+        } while (Combinatorics.nextCombination(indices, 6));
+        assertEquals(20, index);
+
+        // Edge cases: nothing to choose from, or choosing nothing
+        assertNull(Combinatorics.firstProduct(2, 0));
+        assertNull(Combinatorics.firstCombination(4, 3));
+        assertEquals(0, Combinatorics.firstCombination(0, 3).length);
+        assertFalse(Combinatorics.nextCombination(new int[0], 3));
+    }
+
+    /**
+     * Helper function for creating the list [0, ..., n - 1].
+     *
+     * @param n the number of elements
+     * @return the list of BigIntegers from 0 to n - 1
+     */
+    private static List<BigInteger> indices(int n) {
+        List<BigInteger> indices = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            indices.add(BigInteger.valueOf(i));
+        }
+        return indices;
+    }
+
+    /**
+     * Helper function for converting an array of ints into a list of BigIntegers.
+     *
+     * @param ints the array to be converted
+     * @return the list of BigIntegers with the same values
+     */
+    private static List<BigInteger> toList(int[] ints) {
+        List<BigInteger> list = new ArrayList<>();
+        for (int i : ints) {
+            list.add(BigInteger.valueOf(i));
+        }
+        return list;
+    }
+}
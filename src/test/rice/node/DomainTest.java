@@ -0,0 +1,146 @@
+package test.rice.node;
+
+import main.rice.node.Domain;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the Domain class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DomainTest {
+
+    /**
+     * Tests that a range domain behaves like the list of integers it contains.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(1)
+    void testRange() {
+        Domain domain = Domain.range(-2, 2);
+        assertEquals(List.of(-2, -1, 0, 1, 2), domain);
+        assertEquals(List.of(-2, -1, 0, 1, 2).hashCode(), domain.hashCode());
+        assertEquals(5, domain.size());
+        assertEquals(2, domain.max());
+        assertTrue(domain.contains(-2));
+        assertFalse(domain.contains(3));
+        assertFalse(domain.contains(1.0f));
+        assertThrows(IndexOutOfBoundsException.class, () -> domain.get(5));
+    }
+
+    /**
+     * Tests that a float range domain contains Floats rather than Integers.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(2)
+    void testFloatRange() {
+        Domain domain = Domain.floatRange(0, 2);
+        assertEquals(List.of(0.0f, 1.0f, 2.0f), domain);
+        assertTrue(domain.contains(1.0f));
+        assertFalse(domain.contains(1.5f));
+        assertFalse(domain.contains(1));
+    }
+
+    /**
+     * Tests a range far too large to be expanded into a list.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testHugeRange() {
+        Domain domain = Domain.range(-1000000000, 1000000000);
+        assertEquals(2000000001, domain.size());
+        assertEquals(1000000000, domain.max());
+        assertEquals(-1000000000, domain.get(0));
+        assertEquals(1000000000, domain.get(2000000000));
+        assertTrue(domain.contains(123456789));
+        assertThrows(IllegalArgumentException.class,
+            () -> Domain.range(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> Domain.range(1, 0));
+    }
+
+    /**
+     * Tests domains of arbitrary integers, which keep their original order.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(4)
+    void testIntArray() {
+        Domain domain = Domain.of(3, -7, 5);
+        assertEquals(List.of(3, -7, 5), domain);
+        assertEquals(5, domain.max());
+        assertTrue(domain.contains(-7));
+        assertFalse(domain.contains(4));
+        assertEquals(domain, Domain.of(List.of(3, -7, 5)));
+        assertThrows(NoSuchElementException.class, () -> Domain.of().max());
+    }
+
+    /**
+     * Tests domains of non-integer numbers, and that of() copies its input (unless it is
+     * already a domain).
+     */
+    @Test
+    @Tag("1.0")
+    @Order(5)
+    void testOfList() {
+        Domain domain = Domain.of(Arrays.asList(3.7, 7.3, 1));
+        assertEquals(Arrays.asList(3.7, 7.3, 1), domain);
+        assertEquals(7, domain.max());
+        assertTrue(domain.contains(3.7));
+        assertFalse(domain.contains(3));
+        assertSame(domain, Domain.of(domain));
+
+        List<Number> values = new ArrayList<>(List.of(1, 2));
+        Domain copy = Domain.of(values);
+        values.add(3);
+        assertEquals(List.of(1, 2), copy);
+        assertThrows(UnsupportedOperationException.class, () -> copy.add(3));
+    }
+
+    /**
+     * Tests which domains are known to consist of distinct integers.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(6)
+    void testHasDistinctInts() {
+        assertTrue(Domain.range(-3, 3).hasDistinctInts());
+        assertTrue(Domain.of(3, -7, 5).hasDistinctInts());
+        assertFalse(Domain.of(3, -7, 3).hasDistinctInts());
+        assertTrue(Domain.of().hasDistinctInts());
+        assertFalse(Domain.of(Arrays.asList(3.7, 7.3, 1)).hasDistinctInts());
+    }
+
+    /**
+     * Tests finding the index of an integer in each kind of domain, including the first
+     * occurrence of a duplicate and integers stored as Floats.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(7)
+    void testIndexOfInt() {
+        Domain range = Domain.range(-3, 3);
+        assertEquals(0, range.indexOfInt(-3));
+        assertEquals(6, range.indexOfInt(3));
+        assertEquals(-1, range.indexOfInt(4));
+        assertEquals(-1, range.indexOfInt(Integer.MIN_VALUE));
+        assertEquals(2, Domain.floatRange(1, 5).indexOfInt(3));
+
+        Domain ints = Domain.of(5, -7, 3, -7, 8);
+        assertEquals(0, ints.indexOfInt(5));
+        assertEquals(1, ints.indexOfInt(-7));
+        assertEquals(4, ints.indexOfInt(8));
+        assertEquals(-1, ints.indexOfInt(4));
+        assertEquals(-1, ints.indexOfInt(9));
+        assertEquals(-1, Domain.of().indexOfInt(0));
+
+        Domain list = Domain.of(Arrays.asList(3.7, 2.0f, 1));
+        assertEquals(1, list.indexOfInt(2));
+        assertEquals(2, list.indexOfInt(1));
+        assertEquals(-1, list.indexOfInt(3));
+    }
+}
@@ -0,0 +1,79 @@
+package test.rice.node;
+
+import main.rice.node.IndexSampler;
+import org.junit.jupiter.api.*;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the IndexSampler class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IndexSamplerTest {
+
+    /**
+     * Tests that drawing every index yields each one exactly once, and then stops.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(1)
+    void testDrawsEveryIndexOnce() {
+        IndexSampler sampler = new IndexSampler(BigInteger.valueOf(50),
+            new SplittableRandom());
+        Set<BigInteger> drawn = new HashSet<>();
+        while (sampler.hasNext()) {
+            BigInteger index = sampler.next();
+            assertTrue(index.signum() >= 0 && index.intValue() < 50);
+            assertTrue(drawn.add(index));
+        }
+        assertEquals(50, drawn.size());
+        assertThrows(NoSuchElementException.class, sampler::next);
+    }
+
+    /**
+     * Tests that there is nothing to draw when the count is zero.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(2)
+    void testEmpty() {
+        assertFalse(new IndexSampler(BigInteger.ZERO, new SplittableRandom()).hasNext());
+    }
+
+    /**
+     * Tests that the first index drawn is (approximately) uniformly distributed.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testFirstDrawUniform() {
+        SplittableRandom rand = new SplittableRandom();
+        int[] freqs = new int[5];
+        for (int i = 0; i < 50000; i++) {
+            freqs[new IndexSampler(BigInteger.valueOf(5), rand).next().intValue()]++;
+        }
+        for (int freq : freqs) {
+            assertEquals(0.2, freq / 50000.0, 0.01);
+        }
+    }
+
+    /**
+     * Tests drawing from a range that is far too large to enumerate.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(4)
+    void testHugeCount() {
+        BigInteger count = BigInteger.TEN.pow(40);
+        IndexSampler sampler = new IndexSampler(count, new SplittableRandom());
+        Set<BigInteger> drawn = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            BigInteger index = sampler.next();
+            assertTrue(index.signum() >= 0 && index.compareTo(count) < 0);
+            assertTrue(drawn.add(index));
+        }
+    }
+}
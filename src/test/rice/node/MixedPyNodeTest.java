@@ -154,4 +154,34 @@ public class MixedPyNodeTest extends AIterablePyNodeTest {
         assertTrue(compareDistribution(deeplyNestedExpectedRand,
             actual, 0.01));
     }
+
+    /**
+     * Tests iterExVals() on a deeply-nested structure.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testIterExValsDeeplyNested() {
+        assertIterMatchesGen(deeplyNested);
+    }
+
+    /**
+     * Tests countExVals() on a deeply-nested structure.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(4)
+    void testCountExValsDeeplyNested() {
+        assertCountMatchesGen(deeplyNested);
+    }
+
+    /**
+     * Tests unrank() and rank() on a deeply-nested structure.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(5)
+    void testRankDeeplyNested() {
+        assertRankMatchesIter(deeplyNested);
+    }
 }
\ No newline at end of file
@@ -133,4 +133,34 @@ class PyBoolNodeTest extends APyNodeTest {
             new PyBoolObj(true), 0.0);
         assertTrue(compareDistribution(expected, actual, 0.0));
     }
+
+    /**
+     * Tests iterExVals() in the case that the domain includes both true and false.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(9)
+    void testIterExValsBoth() {
+        assertIterMatchesGen(both);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes both true and false.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(10)
+    void testCountExValsBoth() {
+        assertCountMatchesGen(both);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes both true and false.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(11)
+    void testRankBoth() {
+        assertRankMatchesIter(both);
+    }
 }
\ No newline at end of file
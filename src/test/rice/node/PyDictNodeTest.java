@@ -10,6 +10,7 @@ import org.junit.jupiter.api.*;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -468,6 +469,108 @@ class PyDictNodeTest extends APyNodeTest {
         assertTrue(compareDistribution(expected, actual, 0.01));
     }
 
+    /**
+     * Tests iterExVals() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(21)
+    void testIterExValsMixedLen() {
+        assertIterMatchesGen(lensZeroToFour);
+    }
+
+    /**
+     * Tests iterExVals() on a nested dict.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(22)
+    void testIterExValsNested() {
+        assertIterMatchesGen(nested);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(23)
+    void testCountExValsMixedLen() {
+        assertCountMatchesGen(lensZeroToFour);
+    }
+
+    /**
+     * Tests countExVals() on a nested dict.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(24)
+    void testCountExValsNested() {
+        assertCountMatchesGen(nested);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(25)
+    void testRankMixedLen() {
+        assertRankMatchesIter(lensZeroToFour);
+    }
+
+    /**
+     * Tests unrank() and rank() on a nested dict.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(26)
+    void testRankNested() {
+        assertRankMatchesIter(nested);
+    }
+
+    /**
+     * Tests genExVals() in the case that there are many keys and values, and the domain
+     * only includes a single, non-zero size.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(27)
+    void testGenExValsManyKeys() {
+        PyIntNode keyChild = new PyIntNode();
+        keyChild.setExDomain(List.of(0, 1, 2, 3, 4, 5, 6, 7));
+        PyFloatNode valChild = new PyFloatNode();
+        valChild.setExDomain(List.of(0.5, 1.5, 2.5));
+        PyDictNode<PyIntObj, PyFloatObj> node = new PyDictNode<>(keyChild, valChild);
+        node.setExDomain(List.of(3, 9));
+
+        Set<PyDictObj<PyIntObj, PyFloatObj>> actual = node.genExVals();
+        assertEquals(56 * 27, actual.size());
+        for (PyDictObj<PyIntObj, PyFloatObj> dict : actual) {
+            assertEquals(3, dict.getValue().size());
+        }
+        assertTrue(actual.contains(new PyDictObj<>(Map.of(new PyIntObj(7),
+            new PyFloatObj(0.5f), new PyIntObj(2), new PyFloatObj(2.5f),
+            new PyIntObj(4), new PyFloatObj(0.5f)))));
+    }
+
+    /**
+     * Tests that genRandVal() fails fast, rather than looping forever, when the random
+     * domain includes a size larger than the number of distinct keys.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(28)
+    void testGenRandValTooLarge() {
+        PyIntNode keyChild = new PyIntNode();
+        keyChild.setRanDomain(List.of(4, 5));
+        PyIntNode valChild = new PyIntNode();
+        valChild.setRanDomain(List.of(1, 2, 3));
+        PyDictNode<PyIntObj, PyIntObj> node = new PyDictNode<>(keyChild, valChild);
+        node.setRanDomain(List.of(3));
+        assertThrows(IllegalStateException.class, node::genRandVal);
+    }
+
     /**
      * Sets up emptyOnly and oneLenOne.
      */
@@ -216,4 +216,34 @@ class PyFloatNodeTest extends APyNodeTest {
         }
         assertTrue(compareDistribution(expected, actual, 0.01));
     }
+
+    /**
+     * Tests iterExVals() in the case that the domain consists of multiple floats.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(13)
+    void testIterExValsMultiple() {
+        assertIterMatchesGen(multipleVals);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain consists of multiple floats.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(14)
+    void testCountExValsMultiple() {
+        assertCountMatchesGen(multipleVals);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain consists of multiple floats.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(15)
+    void testRankMultiple() {
+        assertRankMatchesIter(multipleVals);
+    }
 }
\ No newline at end of file
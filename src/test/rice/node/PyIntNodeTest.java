@@ -1,9 +1,12 @@
 package test.rice.node;
 
+import main.rice.node.Domain;
 import main.rice.node.PyIntNode;
 import main.rice.obj.PyIntObj;
 import org.junit.jupiter.api.*;
 
+import java.math.BigInteger;
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -179,4 +182,99 @@ class PyIntNodeTest extends APyNodeTest {
         }
         assertTrue(compareDistribution(expected, actual, 0.01));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests iterExVals() in the case that the domain consists of multiple integers.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(11)
+    void testIterExValsMultiple() {
+        assertIterMatchesGen(multipleVals);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain consists of multiple integers.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(12)
+    void testCountExValsMultiple() {
+        assertCountMatchesGen(multipleVals);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain consists of multiple
+     * integers.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(13)
+    void testRankMultiple() {
+        assertRankMatchesIter(multipleVals);
+    }
+
+    /**
+     * Tests that unrank() and rank() follow the domain when it is replaced, including
+     * when a domain with duplicates is replaced by one without.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(14)
+    void testRankReplacedDomain() {
+        PyIntNode node = new PyIntNode();
+        node.setExDomain(List.of(3, 1, 3, 2));
+        assertEquals(BigInteger.valueOf(3), node.countExVals());
+        assertEquals(PyIntObj.valueOf(2), node.unrank(2));
+        assertEquals(BigInteger.ONE, node.rank(PyIntObj.valueOf(1)));
+
+        node.setExDomain(Domain.range(-5, 5));
+        assertEquals(BigInteger.valueOf(11), node.countExVals());
+        assertEquals(PyIntObj.valueOf(-3), node.unrank(2));
+        assertEquals(BigInteger.valueOf(6), node.rank(PyIntObj.valueOf(1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> node.rank(PyIntObj.valueOf(6)));
+    }
+
+    /**
+     * Tests counting and unranking the random domain when it is a large range, which
+     * must take constant time per value rather than scanning the range.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(15)
+    void testUnrankRandLargeRange() {
+        PyIntNode node = new PyIntNode();
+        node.setRanDomain(Domain.range(-1000000, 1000000));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 10000; i++) {
+                assertEquals(BigInteger.valueOf(2000001), node.countRandVals());
+                assertEquals(PyIntObj.valueOf(-1000000 + 200 * i),
+                    node.unrankRand(BigInteger.valueOf(200 * i)));
+            }
+        });
+    }
+
+    /**
+     * Tests ranking values within a large range, which must take constant time per value
+     * rather than building an index of the whole range.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(16)
+    void testRankLargeRange() {
+        PyIntNode node = new PyIntNode();
+        node.setExDomain(Domain.range(-1000000000, 1000000000));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 10000; i++) {
+                int value = -1000000000 + 200000 * i;
+                assertEquals(BigInteger.valueOf(200000L * i),
+                    node.rank(PyIntObj.valueOf(value)));
+                assertEquals(PyIntObj.valueOf(value), node.unrank(node.rank(
+                    PyIntObj.valueOf(value))));
+            }
+        });
+        assertThrows(IllegalArgumentException.class,
+            () -> node.rank(PyIntObj.valueOf(1000000001)));
+    }
+}
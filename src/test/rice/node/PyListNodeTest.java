@@ -1,12 +1,16 @@
 package test.rice.node;
 
+import main.rice.node.PyIntNode;
+import main.rice.node.PyListNode;
 import main.rice.obj.PyBoolObj;
 import main.rice.obj.PyFloatObj;
 import main.rice.obj.PyIntObj;
 import main.rice.obj.PyListObj;
 import org.junit.jupiter.api.*;
 
+import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -310,4 +314,192 @@ class PyListNodeTest extends AIterablePyNodeTest {
         // Compare the actual and expected distributions
         assertTrue(compareDistribution(expectedRandNested, actual, 0.01));
     }
+
+    /**
+     * Tests iterExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(21)
+    void testIterExValsMixedLen() {
+        assertIterMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests iterExVals() on a nested list.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(22)
+    void testIterExValsNested() {
+        assertIterMatchesGen(nestedBools);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(23)
+    void testCountExValsMixedLen() {
+        assertCountMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests countExVals() on a nested list.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(24)
+    void testCountExValsNested() {
+        assertCountMatchesGen(nestedBools);
+    }
+
+    /**
+     * Tests countExVals() in the case that the exhaustive domain is far too large to
+     * generate, so the count does not fit in a long.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(25)
+    void testCountExValsHuge() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(30, 0));
+        assertEquals(BigInteger.TEN.pow(30).add(BigInteger.ONE), node.countExVals());
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(26)
+    void testRankMixedLen() {
+        assertRankMatchesIter(lensZeroToThree);
+    }
+
+    /**
+     * Tests unrank() and rank() on a nested list.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(27)
+    void testRankNested() {
+        assertRankMatchesIter(nestedBools);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the exhaustive domain is far too large
+     * to generate, so the indices do not fit in a long.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(28)
+    void testRankHuge() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(0, 30));
+
+        // The last list of length 30 is all 9s, and its index is 10^30
+        List<PyIntObj> nines = Collections.nCopies(30, new PyIntObj(9));
+        BigInteger last = BigInteger.TEN.pow(30);
+        assertEquals(new PyListObj<>(nines), node.unrank(last));
+        assertEquals(last, node.rank(new PyListObj<>(nines)));
+
+        // Round trip through an arbitrary index
+        BigInteger index = new BigInteger("123456789012345678901234567890");
+        assertEquals(index, node.rank(node.unrank(index)));
+    }
+
+    /**
+     * Tests genExVals() in the case that the domain includes lengths that are not
+     * contiguous, so that the lengths in between must not be generated.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(29)
+    void testGenExValsSparseLens() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(1, 2, 3));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(5, 1));
+
+        Set<PyListObj<PyIntObj>> actual = node.genExVals();
+        assertEquals(3 + 243, actual.size());
+        for (PyListObj<PyIntObj> list : actual) {
+            int length = list.getValue().size();
+            assertTrue(length == 1 || length == 5);
+        }
+        assertTrue(actual.contains(new PyListObj<>(List.of(new PyIntObj(3),
+            new PyIntObj(1), new PyIntObj(2), new PyIntObj(2), new PyIntObj(3)))));
+    }
+
+    /**
+     * Tests sampleRandVals(), which should select distinct values from the random
+     * domain (and not the exhaustive domain), and fail fast if too many are requested.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(30)
+    void testSampleRandVals() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(0));
+        child.setRanDomain(List.of(1, 2, 3));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(0));
+        node.setRanDomain(List.of(1, 2));
+        assertEquals(BigInteger.valueOf(12), node.countRandVals());
+
+        // Every value in the random domain should be selected exactly once
+        List<PyListObj<PyIntObj>> sample = node.sampleRandVals(12);
+        Set<PyListObj<PyIntObj>> expected = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            expected.add(node.unrankRand(BigInteger.valueOf(i)));
+        }
+        assertEquals(12, expected.size());
+        assertEquals(expected, new HashSet<>(sample));
+        assertEquals(12, sample.size());
+
+        assertThrows(IllegalArgumentException.class, () -> node.sampleRandVals(13));
+    }
+
+    /**
+     * Tests that seeding a node (and thereby its child) makes its random values
+     * reproducible, and that genRandVals() yields the same values no matter how many
+     * threads generate them.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(31)
+    void testSeedReproducible() throws Exception {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(0));
+        child.setRanDomain(List.of(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4, 5));
+        PyListNode<PyIntObj> node = new PyListNode<>(child);
+        node.setExDomain(List.of(0));
+        node.setRanDomain(List.of(0, 1, 2, 3, 4));
+
+        node.setSeed(99);
+        List<PyListObj<PyIntObj>> first = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            first.add(node.genRandVal());
+        }
+        node.setSeed(99);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.get(i), node.genRandVal());
+        }
+
+        List<PyListObj<PyIntObj>> parallel = node.genRandVals(500,
+            new SplittableRandom(7));
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertEquals(parallel, pool.submit(
+                () -> node.genRandVals(500, new SplittableRandom(7))).get());
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
\ No newline at end of file
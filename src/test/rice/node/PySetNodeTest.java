@@ -7,6 +7,8 @@ import main.rice.obj.PyIntObj;
 import main.rice.obj.PySetObj;
 import org.junit.jupiter.api.*;
 
+import java.math.BigInteger;
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -462,6 +464,148 @@ class PySetNodeTest extends APyNodeTest {
         assertTrue(compareDistribution(expected, actual, 0.01));
     }
 
+    /**
+     * Tests iterExVals() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(21)
+    void testIterExValsMixedLen() {
+        assertIterMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests iterExVals() on a nested set.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(22)
+    void testIterExValsNested() {
+        assertIterMatchesGen(nestedInts);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(23)
+    void testCountExValsMixedLen() {
+        assertCountMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests countExVals() on a nested set.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(24)
+    void testCountExValsNested() {
+        assertCountMatchesGen(nestedInts);
+    }
+
+    /**
+     * Tests countExVals() in the case that the exhaustive domain includes sizes larger
+     * than the number of distinct elements, which contribute no sets.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(25)
+    void testCountExValsTooLarge() {
+        PyIntNode child = new PyIntNode();
+        child.setExDomain(List.of(1, 2, 3, 3, 4));
+        PySetNode<PyIntObj> node = new PySetNode<>(child);
+        node.setExDomain(List.of(2, 4, 5));
+        assertEquals(BigInteger.valueOf(6 + 1), node.countExVals());
+        assertCountMatchesGen(node);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes multiple sizes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(26)
+    void testRankMixedLen() {
+        assertRankMatchesIter(lensZeroToThree);
+    }
+
+    /**
+     * Tests unrank() and rank() on a nested set.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(27)
+    void testRankNested() {
+        assertRankMatchesIter(nestedInts);
+    }
+
+    /**
+     * Tests genExVals() in the case that there are many distinct elements, so that
+     * generating every permutation would be far more expensive than generating every
+     * combination.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(28)
+    void testGenExValsManyElements() {
+        PyIntNode child = new PyIntNode();
+        List<Number> childDomain = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            childDomain.add(i);
+        }
+        child.setExDomain(childDomain);
+        PySetNode<PyIntObj> node = new PySetNode<>(child);
+        node.setExDomain(List.of(4, 21));
+
+        Set<PySetObj<PyIntObj>> actual = node.genExVals();
+        assertEquals(4845, actual.size());
+        for (PySetObj<PyIntObj> set : actual) {
+            assertEquals(4, set.getValue().size());
+        }
+    }
+
+    /**
+     * Tests that genRandVal() fails fast, rather than looping forever, when the random
+     * domain includes a size larger than the number of distinct elements.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(29)
+    void testGenRandValTooLarge() {
+        PyBoolNode child = new PyBoolNode();
+        child.setRanDomain(List.of(0, 1, 1));
+        PySetNode<PyBoolObj> node = new PySetNode<>(child);
+        node.setRanDomain(List.of(3));
+        assertThrows(IllegalStateException.class, node::genRandVal);
+    }
+
+    /**
+     * Tests generating many random sets over a large child domain, which must not count
+     * the child's values again for every set, and that the check still follows the
+     * child when its domain is replaced.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(30)
+    void testGenRandValLargeChild() {
+        PyIntNode child = new PyIntNode();
+        child.setRanDomain(Domain.range(-1000000, 1000000));
+        PySetNode<PyIntObj> node = new PySetNode<>(child);
+        node.setRanDomain(Domain.range(0, 5));
+        node.setSeed(7L);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 10000; i++) {
+                assertTrue(node.genRandVal().getValue().size() <= 5);
+            }
+        });
+
+        child.setRanDomain(List.of(0, 1));
+        assertEquals(BigInteger.valueOf(4), node.countRandVals());
+        node.setRanDomain(List.of(3));
+        assertThrows(IllegalStateException.class, node::genRandVal);
+    }
+
     /**
      * Sets up emptyOnly.
      */
@@ -360,4 +360,57 @@ class PyStringNodeTest extends APyNodeTest {
         // Compare the actual and expected distributions
         assertTrue(compareDistribution(expected, actual, 0.005));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests iterExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(17)
+    void testIterExValsMixedLen() {
+        assertIterMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(18)
+    void testCountExValsMixedLen() {
+        assertCountMatchesGen(lensZeroToThree);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(19)
+    void testRankMixedLen() {
+        assertRankMatchesIter(lensZeroToThree);
+    }
+
+    /**
+     * Tests that a character domain with repeated characters generates each string only
+     * once, in order of first appearance of each character.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(20)
+    void testRepeatedChars() {
+        PyStringNode node = new PyStringNode("abca");
+        node.setExDomain(List.of(2));
+        node.setRanDomain(List.of(2));
+
+        List<PyStringObj> expected = new ArrayList<>();
+        for (String str : List.of("aa", "ab", "ac", "ba", "bb", "bc", "ca", "cb", "cc")) {
+            expected.add(new PyStringObj(str));
+        }
+        List<PyStringObj> actual = new ArrayList<>();
+        node.iterExVals().forEachRemaining(actual::add);
+        assertEquals(expected, actual);
+        assertEquals(new HashSet<>(expected), node.genExVals());
+        assertRankMatchesIter(node);
+    }
+}
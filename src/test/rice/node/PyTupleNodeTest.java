@@ -385,4 +385,64 @@ class PyTupleNodeTest extends AIterablePyNodeTest {
             nestedBoolsTup, 100000);
         assertTrue(compareDistribution(expectedRandNestedTup, actual, 0.01));
     }
+
+    /**
+     * Tests iterExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(21)
+    void testIterExValsMixedLen() {
+        assertIterMatchesGen(lensZeroToThreeTup);
+    }
+
+    /**
+     * Tests iterExVals() on a nested tuple.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(22)
+    void testIterExValsNested() {
+        assertIterMatchesGen(nestedBoolsTup);
+    }
+
+    /**
+     * Tests countExVals() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(23)
+    void testCountExValsMixedLen() {
+        assertCountMatchesGen(lensZeroToThreeTup);
+    }
+
+    /**
+     * Tests countExVals() on a nested tuple.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(24)
+    void testCountExValsNested() {
+        assertCountMatchesGen(nestedBoolsTup);
+    }
+
+    /**
+     * Tests unrank() and rank() in the case that the domain includes multiple lengths.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(25)
+    void testRankMixedLen() {
+        assertRankMatchesIter(lensZeroToThreeTup);
+    }
+
+    /**
+     * Tests unrank() and rank() on a nested tuple.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(26)
+    void testRankNested() {
+        assertRankMatchesIter(nestedBoolsTup);
+    }
 }
\ No newline at end of file
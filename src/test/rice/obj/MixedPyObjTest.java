@@ -450,4 +450,77 @@ class MixedPyObjTest {
         deeplyNestedVal = Collections.singletonList(new PyListObj<>(firstLayer));
         deeplyNestedObj2 = new PyListObj<>(deeplyNestedVal);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that compareTo() orders PyObjs first by type and then by value, and that it
+     * is consistent with equals().
+     */
+    @Test
+    @Tag("0.5")
+    @Order(16)
+    void testCompareTo() {
+        List<APyObj> ascending = List.of(new PyBoolObj(false), new PyBoolObj(true),
+            new PyIntObj(-3), new PyIntObj(2), new PyFloatObj(-0.5f),
+            new PyCharObj('a'), new PyStringObj(""), new PyStringObj("ab"),
+            new PyStringObj("b"), new PyListObj<>(List.of(new PyIntObj(1))),
+            new PyListObj<>(List.of(new PyIntObj(1), new PyIntObj(0))),
+            new PyTupleObj<>(List.of()), new PySetObj<>(Set.of(new PyIntObj(1))),
+            new PyDictObj<>(Map.of()));
+        for (int i = 0; i < ascending.size(); i++) {
+            for (int j = 0; j < ascending.size(); j++) {
+                assertEquals(Integer.signum(Integer.compare(i, j)),
+                    Integer.signum(ascending.get(i).compareTo(ascending.get(j))));
+            }
+        }
+        assertEquals(0, deeplyNestedObj1.compareTo(deeplyNestedObj2));
+        assertEquals(0, dictOfTupsToLists1.compareTo(dictOfTupsToLists2));
+    }
+
+    /**
+     * Tests that appendRepr() appends to the end of a builder's existing contents, and
+     * agrees with toString().
+     */
+    @Test
+    @Tag("0.5")
+    @Order(17)
+    void testAppendRepr() {
+        StringBuilder repr = new StringBuilder("args: ");
+        listOfTups1.appendRepr(repr);
+        repr.append("; ");
+        new PySetObj<>(Set.of()).appendRepr(repr);
+        assertEquals("args: " + listOfTups1 + "; set()", repr.toString());
+        assertEquals("args: [('a', 'b'), ('c', 'd'), ('e', 'f')]; set()",
+            repr.toString());
+    }
+
+    /**
+     * Tests that equal objects have equal fingerprints, however they were built, and
+     * that objects of different types with the same contents have different ones.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(18)
+    void testFingerprint() {
+        assertEquals(listOfTups1.fingerprint(), listOfTups2.fingerprint());
+        PySetObj<PyIntObj> set = new PySetObj<>(Set.of(new PyIntObj(1), new PyIntObj(2)));
+        assertEquals(set.fingerprint(), new PySetObj<>(new LinkedHashSet<>(
+            List.of(new PyIntObj(2), new PyIntObj(1)))).fingerprint());
+        assertEquals(new PyFloatObj(1.5f).fingerprint(),
+            new PyFloatObj(1.5f).fingerprint());
+
+        List<PyIntObj> elems = List.of(new PyIntObj(1), new PyIntObj(2));
+        Set<Long> fingerprints = new HashSet<>(List.of(
+            new PyListObj<>(elems).fingerprint(),
+            new PyTupleObj<>(elems).fingerprint(),
+            new PySetObj<>(new HashSet<>(elems)).fingerprint(),
+            new PyDictObj<>(Map.of(new PyIntObj(1), new PyIntObj(2))).fingerprint(),
+            new PyListObj<>(List.of(new PyIntObj(2), new PyIntObj(1))).fingerprint(),
+            new PyStringObj("a").fingerprint(),
+            new PyListObj<>(List.of(PyCharObj.valueOf('a'))).fingerprint(),
+            PyCharObj.valueOf('a').fingerprint(),
+            new PyIntObj(1).fingerprint(),
+            new PyFloatObj(1.0f).fingerprint(),
+            new PyBoolObj(true).fingerprint()));
+        assertEquals(11, fingerprints.size());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test cases for the PyBoolObj class.
@@ -133,4 +134,16 @@ class PyBoolObjTest {
     void testHashCodeNotEqual() {
         assertNotEquals(true1.hashCode(), false1.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that valueOf() returns the shared PyBoolObjs.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(11)
+    void testValueOf() {
+        assertSame(PyBoolObj.TRUE, PyBoolObj.valueOf(true));
+        assertSame(PyBoolObj.FALSE, PyBoolObj.valueOf(false));
+        assertEquals(new PyBoolObj(true), PyBoolObj.valueOf(true));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test cases for the PyCharObj class.
@@ -193,4 +194,18 @@ class PyCharObjTest {
     void testHashCodeFalse() {
         assertNotEquals(lower1.hashCode(), upper.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that valueOf() shares the PyCharObj for each character.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(14)
+    void testValueOf() {
+        assertSame(PyCharObj.valueOf('a'), PyCharObj.valueOf('a'));
+        assertSame(PyCharObj.valueOf(Character.MAX_VALUE),
+            PyCharObj.valueOf(Character.MAX_VALUE));
+        assertEquals(new PyCharObj('z'), PyCharObj.valueOf('z'));
+        assertNotEquals(PyCharObj.valueOf('a'), PyCharObj.valueOf('b'));
+    }
+}
@@ -222,4 +222,45 @@ class PyDictObjTest {
         return Map.of(new PyBoolObj(true), new PyDictObj<>(nestedVal1),
             new PyBoolObj(false), new PyDictObj<>(nestedVal2));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a PyDictObj is unaffected by later changes to the map it was built
+     * from, and that its contents cannot be modified.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(13)
+    void testImmutable() {
+        Map<PyIntObj, PyBoolObj> map = new HashMap<>();
+        map.put(new PyIntObj(1), new PyBoolObj(true));
+        PyDictObj<PyIntObj, PyBoolObj> dict = new PyDictObj<>(map);
+        int hash = dict.hashCode();
+        map.put(new PyIntObj(2), new PyBoolObj(false));
+        assertEquals(1, dict.getValue().size());
+        assertEquals(hash, dict.hashCode());
+        assertThrows(UnsupportedOperationException.class,
+            () -> dict.getValue().clear());
+    }
+
+    /**
+     * Tests that dicts store their (key, value) pairs in ascending order of their keys,
+     * no matter the order of the input map, and that looking up keys still works.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(14)
+    void testCanonicalOrder() {
+        Map<PyIntObj, PyBoolObj> map = new LinkedHashMap<>();
+        map.put(new PyIntObj(5), new PyBoolObj(false));
+        map.put(new PyIntObj(-2), new PyBoolObj(true));
+        map.put(new PyIntObj(0), new PyBoolObj(true));
+        PyDictObj<PyIntObj, PyBoolObj> dict = new PyDictObj<>(map);
+        assertEquals("{-2: True, 0: True, 5: False}", dict.toString());
+        assertEquals(List.of(new PyIntObj(-2), new PyIntObj(0), new PyIntObj(5)),
+            new ArrayList<>(dict.getValue().keySet()));
+        assertEquals(map, dict.getValue());
+        assertEquals(new PyBoolObj(false), dict.getValue().get(new PyIntObj(5)));
+        assertNull(dict.getValue().get(new PyIntObj(1)));
+        assertFalse(dict.getValue().containsKey(new PyFloatObj(5.0f)));
+    }
+}
@@ -156,4 +156,23 @@ class PyIntObjTest {
     void testHashCodeNotEqual() {
         assertNotEquals(posInt.hashCode(), largeInt.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that valueOf() shares the PyIntObjs for small values, and creates equal
+     * (but distinct) PyIntObjs for other values.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(11)
+    void testValueOf() {
+        assertSame(PyIntObj.valueOf(0), PyIntObj.valueOf(0));
+        assertSame(PyIntObj.valueOf(PyIntObj.CACHE_LOW),
+            PyIntObj.valueOf(PyIntObj.CACHE_LOW));
+        assertSame(PyIntObj.valueOf(PyIntObj.CACHE_HIGH),
+            PyIntObj.valueOf(PyIntObj.CACHE_HIGH));
+        assertNotSame(PyIntObj.valueOf(PyIntObj.CACHE_HIGH + 1),
+            PyIntObj.valueOf(PyIntObj.CACHE_HIGH + 1));
+        assertEquals(new PyIntObj(-1000000), PyIntObj.valueOf(-1000000));
+        assertEquals("17", PyIntObj.valueOf(17).toString());
+    }
+}
@@ -7,6 +7,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test cases for the PyListObj class.
@@ -220,4 +221,22 @@ class PyListObjTest extends AIterablePyObjTest {
     void testHashCodeNested() {
         assertEquals(nestedList.hashCode(), nestedList2.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a PyListObj is unaffected by later changes to the list it was built
+     * from, and that its contents cannot be modified.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(14)
+    void testImmutable() {
+        List<PyIntObj> elems = new ArrayList<>(List.of(new PyIntObj(1)));
+        PyListObj<PyIntObj> list = new PyListObj<>(elems);
+        int hash = list.hashCode();
+        elems.add(new PyIntObj(2));
+        assertEquals(List.of(new PyIntObj(1)), list.getValue());
+        assertEquals(hash, list.hashCode());
+        assertThrows(UnsupportedOperationException.class,
+            () -> list.getValue().set(0, new PyIntObj(2)));
+    }
+}
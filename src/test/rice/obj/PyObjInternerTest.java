@@ -0,0 +1,114 @@
+package test.rice.obj;
+
+import main.rice.node.PyIntNode;
+import main.rice.node.PyListNode;
+import main.rice.node.PyTupleNode;
+import main.rice.obj.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the PyObjInterner class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PyObjInternerTest {
+
+    /**
+     * Disables interning (and empties the table) after each test, since the table is
+     * shared by the whole program.
+     */
+    @AfterEach
+    void tearDown() {
+        PyObjInterner.setEnabled(false);
+    }
+
+    /**
+     * Tests that intern() returns its input when interning is disabled.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(1)
+    void testDisabled() {
+        PyObjInterner.setEnabled(false);
+        PyListObj<PyIntObj> list = new PyListObj<>(List.of(new PyIntObj(1)));
+        assertSame(list, PyObjInterner.intern(list));
+        assertNotSame(list, PyObjInterner.intern(new PyListObj<>(
+            List.of(new PyIntObj(1)))));
+    }
+
+    /**
+     * Tests that intern() returns the first instance interned for each distinct value,
+     * and never merges values of different classes.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(2)
+    void testCanonicalInstances() {
+        PyObjInterner.setEnabled(true);
+        PyTupleObj<PyIntObj> tup = new PyTupleObj<>(List.of(new PyIntObj(1),
+            new PyIntObj(2)));
+        assertSame(tup, PyObjInterner.intern(tup));
+        assertSame(tup, PyObjInterner.intern(new PyTupleObj<>(List.of(new PyIntObj(1),
+            new PyIntObj(2)))));
+
+        // An equal list (of the same elements) is a different value
+        PyListObj<PyIntObj> list = new PyListObj<>(tup.getValue());
+        assertSame(list, PyObjInterner.intern(list));
+
+        // Strings and lists of the same characters are kept apart
+        PyListObj<PyCharObj> chars = new PyListObj<>(List.of(PyCharObj.valueOf('a')));
+        PyStringObj str = new PyStringObj("a");
+        assertSame(chars, PyObjInterner.intern(chars));
+        assertSame(str, PyObjInterner.intern(str));
+    }
+
+    /**
+     * Tests that the table doesn't keep values alive once nothing else refers to them.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(3)
+    void testWeak() throws InterruptedException {
+        PyObjInterner.setEnabled(true);
+        for (int i = 0; i < 1000; i++) {
+            PyObjInterner.intern(new PyListObj<>(List.of(new PyIntObj(i))));
+        }
+
+        // Garbage collection can't be forced, so give it a number of chances
+        for (int attempt = 0; attempt < 50 && PyObjInterner.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, PyObjInterner.size());
+    }
+
+    /**
+     * Tests that nested values generated by the nodes share their equal inner values
+     * when interning is enabled.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(4)
+    void testSharedByNodes() {
+        PyObjInterner.setEnabled(true);
+        PyIntNode intNode = new PyIntNode();
+        intNode.setExDomain(List.of(0, 1));
+        PyTupleNode<PyIntObj> tupNode = new PyTupleNode<>(intNode);
+        tupNode.setExDomain(List.of(2));
+        PyListNode<PyTupleObj<PyIntObj>> listNode = new PyListNode<>(tupNode);
+        listNode.setExDomain(List.of(2));
+
+        // Every (tuple) element of every list should be one of four shared instances
+        Set<PyTupleObj<PyIntObj>> byIdentity =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<PyListObj<PyTupleObj<PyIntObj>>> lists = listNode.genExVals();
+        assertEquals(16, lists.size());
+        for (PyListObj<PyTupleObj<PyIntObj>> list : lists) {
+            byIdentity.addAll(list.getValue());
+        }
+        assertEquals(4, byIdentity.size());
+    }
+}
@@ -198,4 +198,61 @@ class PySetObjTest extends AIterablePyObjTest {
     void testHashCode() {
         assertEquals(nonEmptyFloatSet.hashCode(), nonEmptyFloatSet3.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a PySetObj is unaffected by later changes to the set it was built from,
+     * and that its contents cannot be modified.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(11)
+    void testImmutable() {
+        Set<PyIntObj> elems = new HashSet<>(Set.of(new PyIntObj(1), new PyIntObj(2)));
+        PySetObj<PyIntObj> set = new PySetObj<>(elems);
+        int hash = set.hashCode();
+        elems.add(new PyIntObj(3));
+        assertEquals(2, set.getValue().size());
+        assertEquals(hash, set.hashCode());
+        assertThrows(UnsupportedOperationException.class,
+            () -> set.getValue().add(new PyIntObj(3)));
+    }
+
+    /**
+     * Tests equals() on two sets with the same size and hash code but different
+     * elements.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(12)
+    void testNotEqualSameHash() {
+        // Integer hash codes are their values, and set hash codes are list hash codes
+        // of the sorted elements, so {a, b} hashes to 31 * (31 + a) + b
+        PySetObj<PyIntObj> set1 = new PySetObj<>(Set.of(new PyIntObj(1),
+            new PyIntObj(35)));
+        PySetObj<PyIntObj> set2 = new PySetObj<>(Set.of(new PyIntObj(2),
+            new PyIntObj(4)));
+        assertEquals(set1.hashCode(), set2.hashCode());
+        assertNotEquals(set1, set2);
+    }
+
+    /**
+     * Tests that sets store their elements in ascending order, no matter the order of
+     * the input set, so that equal sets have identical string representations.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(13)
+    void testCanonicalOrder() {
+        Set<PyIntObj> elems1 = new LinkedHashSet<>(List.of(new PyIntObj(3),
+            new PyIntObj(-1), new PyIntObj(20)));
+        Set<PyIntObj> elems2 = new LinkedHashSet<>(List.of(new PyIntObj(20),
+            new PyIntObj(3), new PyIntObj(-1)));
+        PySetObj<PyIntObj> set1 = new PySetObj<>(elems1);
+        PySetObj<PyIntObj> set2 = new PySetObj<>(elems2);
+        assertEquals(List.of(new PyIntObj(-1), new PyIntObj(3), new PyIntObj(20)),
+            set1.getValue());
+        assertEquals("{-1, 3, 20}", set1.toString());
+        assertEquals(set1.toString(), set2.toString());
+        assertEquals(set1, set2);
+    }
+}
@@ -1,6 +1,7 @@
 package test.rice.obj;
 
 import main.rice.obj.PyCharObj;
+import main.rice.obj.PyListObj;
 import main.rice.obj.PyStringObj;
 import org.junit.jupiter.api.*;
 
@@ -11,6 +12,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test cases for the PyStringObj class.
@@ -189,4 +192,61 @@ class PyStringObjTest {
     void testHashCode() {
         assertEquals(multiCharStr.hashCode(), multiCharStr2.hashCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that PyStringObjs built from Strings share the PyCharObj for each
+     * character.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(12)
+    void testSharedChars() {
+        PyStringObj str = new PyStringObj("abca");
+        assertSame(str.getValue().get(0), str.getValue().get(3));
+        assertSame(PyCharObj.valueOf('b'), new PyStringObj("b").getValue().get(0));
+    }
+
+    /**
+     * Tests that the characters of a PyStringObj are available both as a String and as a
+     * list of PyCharObjs, however the PyStringObj was built.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(13)
+    void testViews() {
+        PyStringObj str = new PyStringObj(List.of(PyCharObj.valueOf('h'),
+            PyCharObj.valueOf('i')));
+        assertEquals("hi", str.getString());
+        assertEquals(List.of(PyCharObj.valueOf('h'), PyCharObj.valueOf('i')),
+            new PyStringObj("hi").getValue());
+        assertEquals(new PyStringObj("hi"), str);
+        assertEquals(new PyStringObj("hi").hashCode(), str.hashCode());
+    }
+
+    /**
+     * Tests that a PyStringObj is not equal to a list of the same characters.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(14)
+    void testNotEqualList() {
+        PyStringObj str = new PyStringObj("hi");
+        PyListObj<PyCharObj> list = new PyListObj<>(str.getValue());
+        assertNotEquals(str, list);
+        assertNotEquals(list, str);
+    }
+
+    /**
+     * Tests that PyStringObjs are ordered lexicographically, with a prefix before any
+     * longer string that starts with it.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(15)
+    void testCompareTo() {
+        assertTrue(new PyStringObj("ab").compareTo(new PyStringObj("b")) < 0);
+        assertTrue(new PyStringObj("ab").compareTo(new PyStringObj("a")) > 0);
+        assertTrue(emptyStr.compareTo(singleCharStr) < 0);
+        assertEquals(0, multiCharStr.compareTo(multiCharStr2));
+    }
+}
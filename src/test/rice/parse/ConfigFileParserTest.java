@@ -1285,6 +1285,107 @@ class ConfigFileParserTest {
         assertTrue(correctDomains(retval.getNodes(), nestedDictNodes, true));
     }
 
+    /**
+     * Tests that the optional seed key is parsed, including seeds that don't fit in an
+     * int.
+     */
+    @Test
+    @Order(82)
+    void testParseSeed() throws InvalidConfigException {
+        for (long seed : new long[]{0, -17, 1L << 40}) {
+            String config = "{\n\t\"fname\": \"seeded\""
+                + ",\n\t\"types\": [\"int\"]"
+                + ",\n\t\"exhaustive domain\": [\"0~1\"]"
+                + ",\n\t\"random domain\": [\"3~5\"]"
+                + ",\n\t\"num random\": 1"
+                + ",\n\t\"seed\": " + seed
+                + "\n}";
+            assertEquals(seed, parser.parse(config).getSeed());
+        }
+    }
+
+    /**
+     * Tests case where the seed is not an integer, or where the seed is given in place
+     * of a required key; should throw InvalidConfigException.
+     */
+    @Test
+    @Order(83)
+    void testInvalidSeed() {
+        String config = "{\n\t\"fname\": \"seeded\""
+            + ",\n\t\"types\": [\"int\"]"
+            + ",\n\t\"exhaustive domain\": [\"0~1\"]"
+            + ",\n\t\"random domain\": [\"3~5\"]"
+            + ",\n\t\"num random\": 1"
+            + ",\n\t\"seed\": \"abc\""
+            + "\n}";
+        invalidConfigHelper(config);
+
+        config = "{\n\t\"fname\": \"seeded\""
+            + ",\n\t\"types\": [\"int\"]"
+            + ",\n\t\"exhaustive domain\": [\"0~1\"]"
+            + ",\n\t\"random domain\": [\"3~5\"]"
+            + ",\n\t\"seed\": 5"
+            + "\n}";
+        invalidConfigHelper(config);
+    }
+
+    /**
+     * Tests that a large range is parsed without being expanded, and that a range too
+     * large to index is rejected.
+     */
+    @Test
+    @Order(84)
+    void testParseHugeRange() throws InvalidConfigException {
+        String config = buildConfigText("huge", "[\"int\"]",
+            "[\"-1000000~1000000\"]", "[\"1~2147483647\"]", "1");
+        APyNode<?> node = parser.parse(config).getNodes().get(0);
+        assertEquals(2000001, node.getExDomain().size());
+        assertEquals(1000000, node.getExDomain().max());
+        assertTrue(node.getRanDomain().contains(2147483647));
+
+        invalidConfigHelper(buildConfigText("huge", "[\"int\"]",
+            "[\"-2147483648~2147483647\"]", "[\"0~1\"]", "1"));
+    }
+
+    /**
+     * Tests that the optional strength key is parsed, alone or alongside the seed, and
+     * that it defaults to 0 (every combination of arguments).
+     */
+    @Test
+    @Order(85)
+    void testParseStrength() throws InvalidConfigException {
+        String base = "{\n\t\"fname\": \"pairwise\""
+            + ",\n\t\"types\": [\"int\", \"int\", \"int\"]"
+            + ",\n\t\"exhaustive domain\": [\"0~1\", \"0~1\", \"0~1\"]"
+            + ",\n\t\"random domain\": [\"3~5\", \"3~5\", \"3~5\"]"
+            + ",\n\t\"num random\": 1";
+        assertEquals(0, parser.parse(base + "\n}").getStrength());
+        assertEquals(2, parser.parse(base + ",\n\t\"strength\": 2\n}").getStrength());
+
+        ConfigFile cFile = parser.parse(base + ",\n\t\"strength\": 3"
+            + ",\n\t\"seed\": 9\n}");
+        assertEquals(3, cFile.getStrength());
+        assertEquals(9L, cFile.getSeed());
+    }
+
+    /**
+     * Tests case where the strength is not 2 or 3, or where the strength is given in
+     * place of a required key; should throw InvalidConfigException.
+     */
+    @Test
+    @Order(86)
+    void testInvalidStrength() {
+        String base = "{\n\t\"fname\": \"pairwise\""
+            + ",\n\t\"types\": [\"int\"]"
+            + ",\n\t\"exhaustive domain\": [\"0~1\"]"
+            + ",\n\t\"random domain\": [\"3~5\"]";
+        for (String strength : new String[]{"1", "4", "0", "2.5", "\"2\""}) {
+            invalidConfigHelper(base + ",\n\t\"num random\": 1"
+                + ",\n\t\"strength\": " + strength + "\n}");
+        }
+        invalidConfigHelper(base + ",\n\t\"strength\": 2\n}");
+    }
+
     /**
      * Helper function for building a ConfigFile object.
      *
@@ -55,4 +55,23 @@ class ConfigFileTest {
         List<APyNode<?>> nodes = Arrays.asList(node1, node2);
         assertEquals(new ArrayList<>(nodes), new ConfigFile(null, nodes, 0).getNodes());
     }
+
+    /**
+     * Tests the getSeed() method of the ConfigFile class.
+     */
+    @Test
+    @Order(4)
+    void testGetSeed() {
+        assertEquals(-42L, new ConfigFile(null, null, 0, -42L).getSeed());
+    }
+
+    /**
+     * Tests the getStrength() method of the ConfigFile class.
+     */
+    @Test
+    @Order(5)
+    void testGetStrength() {
+        assertEquals(0, new ConfigFile(null, null, 0, -42L).getStrength());
+        assertEquals(2, new ConfigFile(null, null, 0, -42L, 2).getStrength());
+    }
 }
@@ -0,0 +1,102 @@
+package test.rice.test;
+
+import main.rice.test.CoverageMatrix;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the CoverageMatrix class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CoverageMatrixTest {
+
+    /**
+     * A matrix of 100 test cases and 130 files (so that both directions span multiple
+     * words), where test case i catches every file j such that j % (i + 1) == 0.
+     */
+    private static CoverageMatrix matrix;
+
+    /**
+     * Sets up the matrix shared by the tests.
+     */
+    @BeforeAll
+    static void setUp() {
+        matrix = new CoverageMatrix(100, 130);
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 130; j += i + 1) {
+                matrix.set(i, j);
+            }
+        }
+    }
+
+    /**
+     * Tests get() on caught and uncaught files.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(1)
+    void testGet() {
+        assertTrue(matrix.get(0, 129));
+        assertTrue(matrix.get(63, 64));
+        assertFalse(matrix.get(63, 65));
+        assertFalse(matrix.get(99, 99));
+    }
+
+    /**
+     * Tests countFiles() and getFiles() for a single test case.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(2)
+    void testFiles() {
+        assertEquals(130, matrix.countFiles(0));
+        assertEquals(2, matrix.countFiles(64));
+        assertEquals(Set.of(0, 65), matrix.getFiles(64));
+    }
+
+    /**
+     * Tests countFiles() restricted to a bitset of files.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(3)
+    void testFilesMasked() {
+        // Keep only the files with index >= 64
+        long[] mask = new long[CoverageMatrix.numWords(130)];
+        mask[1] = -1L;
+        mask[2] = -1L;
+        assertEquals(66, matrix.countFiles(0, mask));
+        assertEquals(33, matrix.countFiles(1, mask));
+    }
+
+    /**
+     * Tests countCases() and getCases() for a single file, using the transposed view.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(4)
+    void testCases() {
+        assertEquals(100, matrix.countCases(0));
+        assertEquals(Set.of(0), matrix.getCases(1));
+        assertEquals(Set.of(0, 1, 2, 3, 5, 11), matrix.getCases(12));
+        assertEquals(6, matrix.countCases(12));
+    }
+
+    /**
+     * Tests getWrongSet() when only some files are caught.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(5)
+    void testWrongSet() {
+        CoverageMatrix sparse = new CoverageMatrix(3, 70);
+        sparse.set(0, 69);
+        sparse.set(2, 3);
+        sparse.set(2, 69);
+        assertEquals(Set.of(3, 69), sparse.getWrongSet());
+        assertEquals(Set.of(), new CoverageMatrix(0, 0).getWrongSet());
+    }
+}
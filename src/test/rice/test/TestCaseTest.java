@@ -2,6 +2,7 @@ package test.rice.test;
 
 import main.rice.obj.*;
 import main.rice.test.TestCase;
+import main.rice.test.ValueTable;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
@@ -446,4 +447,82 @@ class TestCaseTest {
         multipleArgsNested = new TestCase(multipleArgsNestedVal);
         multipleArgsNested2 = new TestCase(new ArrayList<>(multipleArgsNestedVal));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a TestCase is unaffected by later changes to the list of arguments it
+     * was built from, and that its arguments cannot be modified.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(26)
+    void testImmutable() {
+        List<APyObj> args = new ArrayList<>(List.of(new PyIntObj(1)));
+        TestCase test = new TestCase(args);
+        int hash = test.hashCode();
+        args.add(new PyIntObj(2));
+        assertEquals(new TestCase(List.of(new PyIntObj(1))), test);
+        assertEquals(hash, test.hashCode());
+        assertThrows(UnsupportedOperationException.class,
+            () -> test.getArgs().add(new PyIntObj(2)));
+    }
+
+    /**
+     * Tests that getArgReprs() returns the string representation of each argument, and
+     * builds them only once.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(27)
+    void testGetArgReprs() {
+        TestCase test = new TestCase(List.of(new PyIntObj(1),
+            new PyTupleObj<>(List.of(new PyStringObj("a"))), new PyBoolObj(false)));
+        assertEquals(List.of("1", "('a',)", "False"), test.getArgReprs());
+        assertSame(test.getArgReprs(), test.getArgReprs());
+        assertEquals(List.of(), new TestCase(List.of()).getArgReprs());
+    }
+
+    /**
+     * Tests that compactly-stored test cases are equal to (and have the same hash codes
+     * as) test cases with the same arguments, whether or not those are stored compactly.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(28)
+    void testCompact() {
+        List<List<APyObj>> values = List.of(
+            List.of(new PyIntObj(1), new PyIntObj(2)),
+            List.of(new PyStringObj("a"), new PyStringObj("b")));
+        ValueTable table = new ValueTable(values);
+        TestCase compact = new TestCase(table, 2);
+        TestCase direct = new TestCase(List.of(new PyIntObj(2), new PyStringObj("a")));
+
+        assertEquals(direct, compact);
+        assertEquals(compact, direct);
+        assertEquals(direct.hashCode(), compact.hashCode());
+        assertEquals(direct.getArgs(), compact.getArgs());
+        assertEquals(List.of("2", "'a'"), compact.getArgReprs());
+        assertEquals(direct.toString(), compact.toString());
+
+        assertEquals(compact, new TestCase(table, 2));
+        assertNotEquals(compact, new TestCase(table, 3));
+        assertEquals(compact, new TestCase(new ValueTable(values), 2));
+    }
+
+    /**
+     * Tests that equal test cases have equal fingerprints, whether or not they are
+     * stored compactly.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(29)
+    void testFingerprint() {
+        assertEquals(multipleArgsNested.fingerprint(), multipleArgsNested2.fingerprint());
+        ValueTable table = new ValueTable(List.of(
+            List.of(new PyIntObj(1), new PyIntObj(2)),
+            List.of(new PyStringObj("a"), new PyStringObj("b"))));
+        assertEquals(new TestCase(List.of(new PyIntObj(2), new PyStringObj("b")))
+            .fingerprint(), new TestCase(table, 3).fingerprint());
+        assertNotEquals(new TestCase(table, 2).fingerprint(),
+            new TestCase(table, 3).fingerprint());
+    }
+}
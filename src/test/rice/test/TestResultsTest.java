@@ -3,6 +3,7 @@ package test.rice.test;
 import main.rice.obj.PyBoolObj;
 import main.rice.obj.PyIntObj;
 import main.rice.obj.PyStringObj;
+import main.rice.test.CoverageMatrix;
 import main.rice.test.TestCase;
 import main.rice.test.TestResults;
 import org.junit.jupiter.api.*;
@@ -11,6 +12,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test cases for the TestResults class.
@@ -165,4 +167,64 @@ class TestResultsTest {
     void testGetCaseToFilesNonEmpty() {
         assertEquals(new ArrayList<>(someFilesFail), someFail.getCaseToFiles());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the coverage matrix matches caseToFiles when some files fail some tests.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(9)
+    void testGetCoverage() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(someFilesFail.get(i), someFail.getCoverage().getFiles(i));
+        }
+    }
+
+    /**
+     * Tests that a TestResults built from a coverage matrix derives an equivalent
+     * caseToFiles list and wrong set.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(10)
+    void testFromCoverage() {
+        CoverageMatrix coverage = new CoverageMatrix(10, 10);
+        for (int i = 0; i < 10; i++) {
+            for (int file : someFilesFail.get(i)) {
+                coverage.set(i, file);
+            }
+        }
+        TestResults results = new TestResults(testCases, coverage);
+        assertEquals(new ArrayList<>(someFilesFail), results.getCaseToFiles());
+        assertEquals(Set.of(1, 3, 5, 7, 9), results.getWrongSet());
+    }
+
+    /**
+     * Tests that a TestResults built from a caseToFiles list keeps that list as the
+     * source of truth, and that the list derived from a coverage matrix rejects changes
+     * rather than silently dropping them.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(11)
+    void testCaseToFilesSourceOfTruth() {
+        List<Set<Integer>> caseToFiles = new ArrayList<>();
+        caseToFiles.add(new HashSet<>(Set.of(0)));
+        Set<Integer> wrongSet = new HashSet<>(Set.of(0));
+        TestResults results = new TestResults(testCases, caseToFiles, wrongSet);
+        assertEquals(Set.of(0), results.getCoverage().getFiles(0));
+
+        caseToFiles.get(0).add(2);
+        wrongSet.add(2);
+        assertEquals(Set.of(0, 2), results.getCaseToFiles().get(0));
+        assertEquals(Set.of(0, 2), results.getCoverage().getFiles(0));
+
+        CoverageMatrix coverage = new CoverageMatrix(1, 3);
+        coverage.set(0, 1);
+        List<Set<Integer>> derived =
+            new TestResults(testCases, coverage).getCaseToFiles();
+        assertEquals(List.of(Set.of(1)), derived);
+        assertThrows(UnsupportedOperationException.class, () -> derived.add(Set.of()));
+        assertThrows(UnsupportedOperationException.class, () -> derived.get(0).add(2));
+    }
+}
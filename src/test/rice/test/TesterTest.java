@@ -13,6 +13,7 @@ import java.nio.file.Paths;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -712,6 +713,263 @@ class TesterTest {
             f3resultStr, Set.of(0, 1, 2), expected, 1);
     }
 
+    /**
+     * Tests computeExpectedResults() through a worker pool using multiple tests on a
+     * function that takes multiple nested arguments.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(37)
+    @SuppressWarnings("unchecked")
+    void testGetExpectedResultsWorkerPool() {
+        // Generate expected (expected) results
+        List<String> expected = new ArrayList<>();
+        for (TestCase test : f3Tests) {
+            if (((List<PyIntObj>) test.getArgs().get(0).getValue()).size() > 0) {
+                expected.add("('3', '4')");
+            } else if (((List<PyIntObj>) test.getArgs().get(1).getValue()).size()
+                > ((List<PyIntObj>) test.getArgs().get(2).getValue()).size()) {
+                expected.add("('4', '5')");
+            } else {
+                expected.add("('5', '6')");
+            }
+        }
+
+        // Run tests through the pool and compare to the expected results
+        Tester tester = new Tester("func3",
+            userDir + "/src/test/rice/test/pyfiles/sols/func3sol.py",
+            userDir + "/src/test/rice/test/pyfiles/f0oneRight", f3Tests);
+        tester.setUseWorkerPool(true);
+        expectedHelper(tester, expected);
+    }
+
+    /**
+     * Tests running a mix of passing and failing tests through a worker pool on multiple
+     * implementations of a function that takes multiple nested arguments; checks
+     * caseToFiles.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(38)
+    @SuppressWarnings("unchecked")
+    void testRunTestsWorkerPoolMixed() {
+        // Generate expected results
+        List<Set<Integer>> expected = new ArrayList<>();
+        for (TestCase test : f3Tests) {
+            if (((List<PyIntObj>) test.getArgs().get(0).getValue()).size() != 0) {
+                expected.add(Set.of(2));
+            } else {
+                Set<Integer> wrongSet = new HashSet<>();
+                wrongSet.add(1);
+                if (((List<PyIntObj>) test.getArgs().get(2).getValue()).size()
+                    >= ((List<PyIntObj>) test.getArgs().get(1).getValue()).size()) {
+                    wrongSet.add(0);
+                }
+                expected.add(wrongSet);
+            }
+        }
+
+        // Run tests through the pool and compare expected results to actual results
+        Tester tester = new Tester("func3", null,
+            userDir + "/src/test/rice/test/pyfiles/f3multipleMixed", f3Tests);
+        tester.setUseWorkerPool(true);
+        runTestsHelper(tester, f3Tests, "f3multipleMixed", f3resultStr,
+            Set.of(0, 1, 2), expected, 1);
+    }
+
+    /**
+     * Tests running tests through a worker pool on multiple malformed implementations
+     * (which fail to import, take the wrong arguments, or raise exceptions); checks
+     * caseToFiles.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(39)
+    void testRunTestsWorkerPoolMalformed() {
+        // Generate expected results
+        List<Set<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            expected.add(Set.of(0, 1, 2));
+        }
+
+        // Run tests through the pool and compare expected results to actual results
+        Tester tester = new Tester("func3", null,
+            userDir + "/src/test/rice/test/pyfiles/f3malformed", f3Tests);
+        tester.setUseWorkerPool(true);
+        runTestsHelper(tester, f3Tests, "f3malformed", f3resultStr,
+            Set.of(0, 1, 2), expected, 1);
+    }
+
+    /**
+     * Tests that the worker file left behind by a worker pool is not itself tested as an
+     * implementation by a later run.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(40)
+    void testRunTestsIgnoresWorkerFile() {
+        // Run once through a pool, leaving the worker file behind
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0multipleWrong", f0Tests);
+        tester.setUseWorkerPool(true);
+        runTestsHelper(tester, f0Tests, "f0multipleWrong", "results = [0, 1, 2, 3, 4]",
+            Set.of(0, 1), null, 0);
+
+        // Then run again without the pool
+        runTestsHelper("func0", f0Tests, "f0multipleWrong", "results = [0, 1, 2, 3, 4]",
+            Set.of(0, 1), null, 0);
+    }
+
+    /**
+     * Tests computeExpectedResults() when running multiple tests in parallel, which
+     * should still return the results in the order of the tests.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(41)
+    void testGetExpectedResultsParallel() {
+        Tester tester = new Tester("func0",
+            userDir + "/src/test/rice/test/pyfiles/sols/func0sol.py",
+            userDir + "/src/test/rice/test/pyfiles/f0oneRight", f0Tests);
+        tester.setParallelism(4);
+        expectedHelper(tester, List.of("0", "1", "2", "3", "4"));
+    }
+
+    /**
+     * Tests running a mix of passing and failing tests in parallel on multiple
+     * implementations, each in its own process; checks that the results are identical to
+     * those of a serial run.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(42)
+    void testRunTestsParallelMatchesSerial() {
+        parallelHelper(false);
+    }
+
+    /**
+     * Tests running a mix of passing and failing tests in parallel on multiple
+     * implementations through a worker pool; checks that the results are identical to
+     * those of a serial run.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(43)
+    void testRunTestsParallelWorkerPoolMatchesSerial() {
+        parallelHelper(true);
+    }
+
+    /**
+     * Tests that the parallelism must be positive.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(44)
+    void testInvalidParallelism() {
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0oneRight", f0Tests);
+        assertThrows(IllegalArgumentException.class, () -> tester.setParallelism(0));
+    }
+
+    /**
+     * Tests that a test that runs out of time is killed and counts as catching the
+     * implementation, without affecting the other tests or implementations.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(45)
+    void testRunTestsTimeout() {
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0multipleTimeout", f0Tests);
+        tester.setTimeout(1000);
+        runTestsHelper(tester, f0Tests, "f0multipleTimeout", "results = [0, 1, 2, 3, 4]",
+            Set.of(0), List.of(Set.of(), Set.of(), Set.of(0), Set.of(), Set.of()), 1);
+    }
+
+    /**
+     * Tests that a test that runs out of time in a worker pool is killed and counts as
+     * catching the implementation, and that the worker is replaced for the later tests.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(46)
+    void testRunTestsTimeoutWorkerPool() {
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0multipleTimeout", f0Tests);
+        tester.setUseWorkerPool(true);
+        tester.setTimeout(1000);
+        runTestsHelper(tester, f0Tests, "f0multipleTimeout", "results = [0, 1, 2, 3, 4]",
+            Set.of(0), List.of(Set.of(), Set.of(), Set.of(0), Set.of(), Set.of()), 1);
+    }
+
+    /**
+     * Tests that, by default, the time budgets are derived from the runtime of the
+     * reference solution, so that an implementation that never returns is caught.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(47)
+    void testRunTestsAdaptiveTimeout() {
+        Tester tester = new Tester("func0",
+            userDir + "/src/test/rice/test/pyfiles/sols/func0sol.py",
+            userDir + "/src/test/rice/test/pyfiles/f0multipleTimeout", f0Tests);
+        try {
+            tester.computeExpectedResults();
+            TestResults results = tester.runTests();
+            assertEquals(Set.of(0), results.getWrongSet());
+            assertEquals(List.of(Set.of(), Set.of(), Set.of(0), Set.of(), Set.of()),
+                results.getCaseToFiles());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
+    /**
+     * Tests that the timeout must not be negative.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(48)
+    void testInvalidTimeout() {
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0oneRight", f0Tests);
+        assertThrows(IllegalArgumentException.class, () -> tester.setTimeout(-1));
+    }
+
+    /**
+     * Tests that an implementation that prints more than fits in a pipe, to both its
+     * standard output and its standard error, is neither blocked nor caught.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(49)
+    void testRunTestsVerbose() {
+        Tester tester = new Tester("func0", null,
+            userDir + "/src/test/rice/test/pyfiles/f0multipleVerbose", f0Tests);
+        tester.setTimeout(10000);
+        runTestsHelper(tester, f0Tests, "f0multipleVerbose", "results = [0, 1, 2, 3, 4]",
+            Set.of(), null, 0);
+    }
+
+    /**
+     * Tests that an implementation whose answer depends on module-level state left over
+     * from earlier calls gets the same results from the worker pool as it does when each
+     * test runs in a new process.
+     */
+    @Test
+    @Tag("1.0")
+    @Order(50)
+    void testRunTestsWorkerPoolFreshState() {
+        for (boolean useWorkerPool : new boolean[]{false, true}) {
+            Tester tester = new Tester("func0", null,
+                userDir + "/src/test/rice/test/pyfiles/f0multipleStateful", f0Tests);
+            tester.setUseWorkerPool(useWorkerPool);
+            tester.setTimeout(10000);
+            runTestsHelper(tester, f0Tests, "f0multipleStateful",
+                "results = [0, 1, 2, 3, 4]", Set.of(), null, 0);
+        }
+    }
+
     /**
      * Sets up the test cases for function f0, which takes one simple argument.
      */
@@ -803,6 +1061,27 @@ class TesterTest {
         int outputToCheck) {
         Tester tester = new Tester(funcName, null,
             userDir + "/src/test/rice/test/pyfiles/" + implDir, tests);
+        runTestsHelper(tester, tests, implDir, solResults, expWrongSet, expResults,
+            outputToCheck);
+    }
+
+    /**
+     * Helper function for testing the runTests() function using an already-configured
+     * Tester object; fakes computation of the expected results, gets the actual results,
+     * and compares both the wrongSet and caseToFile mappings between the actual and
+     * expected results.
+     *
+     * @param tester      the tester to be run
+     * @param tests       the set of tests to be run
+     * @param implDir     the path to the directory containing the buggy implementations
+     * @param solResults  the expected contents of expected.py, assuming
+     *                    computeExpectedResults() is correct
+     * @param expWrongSet the expected wrongSet
+     * @param expResults  the expected caseToFile list
+     */
+    private void runTestsHelper(Tester tester, List<TestCase> tests, String implDir,
+        String solResults, Set<Integer> expWrongSet, List<Set<Integer>> expResults,
+        int outputToCheck) {
         try {
             // Generate the expected.py file (to fake computing the expected results
             // without creating a dependency on computeExpectedResults())
@@ -827,6 +1106,35 @@ class TesterTest {
         }
     }
 
+    /**
+     * Helper function for testing parallel execution of runTests(); runs the f3 tests on
+     * a directory of mixed implementations both serially and in parallel, and compares
+     * the results.
+     *
+     * @param useWorkerPool whether the parallel run should use a worker pool
+     */
+    private void parallelHelper(boolean useWorkerPool) {
+        String implDirPath = userDir + "/src/test/rice/test/pyfiles/f3multipleMixed";
+        try {
+            FileWriter writer = new FileWriter(implDirPath + "/expected.py");
+            writer.write(f3resultStr);
+            writer.close();
+
+            // Run once serially, and once in parallel
+            TestResults serial = new Tester("func3", null, implDirPath, f3Tests)
+                .runTests();
+            Tester tester = new Tester("func3", null, implDirPath, f3Tests);
+            tester.setUseWorkerPool(useWorkerPool);
+            tester.setParallelism(4);
+            TestResults parallel = tester.runTests();
+
+            assertEquals(serial.getWrongSet(), parallel.getWrongSet());
+            assertEquals(serial.getCaseToFiles(), parallel.getCaseToFiles());
+        } catch (IOException e) {
+            fail();
+        }
+    }
+
     /**
      * Helper function for testing the computeExpectedResults() function; instantiates a
      * Tester object, computes the expected results, and compares those to the
@@ -843,6 +1151,18 @@ class TesterTest {
         Tester tester = new Tester(funcName, userDir +
             "/src/test/rice/test/pyfiles/sols/" + solName, userDir +
             "/src/test/rice/test/pyfiles/f0oneRight", tests);
+        expectedHelper(tester, expected);
+    }
+
+    /**
+     * Helper function for testing the computeExpectedResults() function using an
+     * already-configured Tester object; computes the expected results, and compares those
+     * to the manually-created expected results.
+     *
+     * @param tester   the tester to be run
+     * @param expected the expected (expected) results
+     */
+    private void expectedHelper(Tester tester, List<String> expected) {
         try {
             // Compute the actual rsults and compare to the expected
             List<String> actual = tester.computeExpectedResults();
@@ -0,0 +1,79 @@
+package test.rice.test;
+
+import main.rice.obj.*;
+import main.rice.test.ValueTable;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for the ValueTable class.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ValueTableTest {
+
+    /**
+     * A table with two possible arguments for the first parameter and three for the
+     * second.
+     */
+    private static ValueTable table;
+
+    /**
+     * Sets up the table.
+     */
+    @BeforeAll
+    static void setUp() {
+        table = new ValueTable(List.of(
+            List.of(new PyBoolObj(false), new PyBoolObj(true)),
+            List.of(new PyIntObj(7), new PyIntObj(8), new PyIntObj(9))));
+    }
+
+    /**
+     * Tests that counting through the codes visits every combination of arguments in
+     * odometer order, and that encode() is the inverse of decode().
+     */
+    @Test
+    @Tag("1.0")
+    @Order(1)
+    void testCodes() {
+        assertEquals(2, table.numParams());
+        assertEquals(6, table.size());
+        assertEquals(List.of(new PyBoolObj(false), new PyIntObj(7)), table.decode(0));
+        assertEquals(List.of(new PyBoolObj(false), new PyIntObj(8)), table.decode(1));
+        assertEquals(List.of(new PyBoolObj(true), new PyIntObj(7)), table.decode(3));
+        assertEquals(new PyIntObj(9), table.get(5, 1));
+        assertEquals(4, table.encode(new int[]{1, 1}));
+    }
+
+    /**
+     * Tests that hashOf() agrees with the hash code of the materialized arguments.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(2)
+    void testHashOf() {
+        for (long code = 0; code < table.size(); code++) {
+            assertEquals(table.decode(code).hashCode(), table.hashOf(code));
+        }
+    }
+
+    /**
+     * Tests that a table can't be built when there are too many combinations of
+     * arguments to be encoded in a long.
+     */
+    @Test
+    @Tag("0.5")
+    @Order(3)
+    void testTooManyCombinations() {
+        List<APyObj> values = new ArrayList<>();
+        for (int i = 0; i < 1 << 16; i++) {
+            values.add(new PyIntObj(i));
+        }
+        assertTrue(ValueTable.fits(Collections.nCopies(3, values)));
+        assertFalse(ValueTable.fits(Collections.nCopies(4, values)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ValueTable(Collections.nCopies(4, values)));
+    }
+}
@@ -0,0 +1,4 @@
+def func0(intval):
+    while intval == 2:
+        pass
+    return intval
@@ -0,0 +1,6 @@
+import sys
+
+def func0(intval):
+    print("x" * 1000000)
+    print("y" * 1000000, file=sys.stderr)
+    return intval